@@ -56,20 +56,117 @@ returns Error? = @java:Method {
     name: "remove"
 } external;
 
+# Removes the specified file or directory as specified by the given configurations.
+# When the parallelism is greater than one, the files of a directory tree are removed in parallel on a work-stealing
+# pool of that many worker threads, and each directory is removed once its entries are removed. The removal continues
+# past the entries that cannot be removed and reports them together once the whole tree is processed.
+# ```ballerina
+# check file:removeWithConfig("foo/cache", {option: file:RECURSIVE, parallelism: 8});
+# ```
+#
+# + path - String value of the file/directory path
+# + config - The configurations of the remove operation
+# + return - An `file:Error` if failed to remove
+public isolated function removeWithConfig(string path, RemoveConfig config = {}) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "removeWithConfig"
+} external;
+
+# Removes the specified file or directory in the background, and returns once it no longer exists at the given path.
+# The file or directory is atomically moved into a hidden `.ballerina-trash` directory next to it, and its contents are
+# deleted by a background thread, which pauses between batches of deletions as configured with `configureTrash`. The
+# trash left by a previous run of the program is deleted once this function is first called. A file or directory on a
+# different file system than its parent directory, such as a mount point, is removed before the function returns. The
+# `.ballerina-trash` directory is listed by `readDir`, `walk` and `diskUsage` of the parent directory until its
+# contents are deleted.
+# ```ballerina
+# check file:removeAsync("foo/cache");
+# ```
+#
+# + path - String value of the file/directory path
+# + return - An `file:Error` if failed to remove
+public isolated function removeAsync(string path) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "removeAsync"
+} external;
+
+# Configures the pace of the background deletion of the trash used by `removeAsync`. The thread that deletes the trash
+# asks for a low priority, which the JVM does not apply on Linux by default, so the pauses between the batches of
+# deletions are what leave I/O bandwidth to the program there. The deletions already in progress continue as configured
+# before.
+# ```ballerina
+# check file:configureTrash({batchSize: 128, batchPause: 0.02});
+# ```
+#
+# + config - The configurations of the trash deletion
+# + return - A `file:Error` if the configurations are invalid
+public isolated function configureTrash(TrashConfig config = {}) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "configureTrash"
+} external;
+
+# Deletes the files of a directory by their age, name and total size, and returns the number of deleted files and
+# reclaimed bytes. The rules are evaluated against the attributes read while walking the directory, and the files are
+# deleted in the same pass. Directories are not deleted. The files that cannot be deleted are skipped and reported in
+# the result.
+# ```ballerina
+# file:PurgeResult result = check file:purge("logs", {olderThan: 604800, pattern: "*.log", recursive: true});
+# ```
+#
+# + path - String value of the directory path
+# + options - The retention rules of the purge operation
+# + return - The `PurgeResult` or else a `file:Error` if the directory cannot be purged
+public isolated function purge(string path, PurgeOptions options) returns PurgeResult|Error = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "purge"
+} external;
+
+# Removes the specified file or directory, and returns the statistics of the removal.
+# ```ballerina
+# file:OperationStats stats = check file:removeWithStats("foo/bar", file:RECURSIVE);
+# ```
+#
+# + path - String value of the file/directory path
+# + option - Indicates whether the `remove` should recursively remove all the files inside the given directory
+# + return - The statistics of the remove operation or else a `file:Error` if failed to remove
+public isolated function removeWithStats(string path, DirOption option = NON_RECURSIVE)
+returns OperationStats|Error = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "removeWithStats"
+} external;
+
 # Renames(Moves) the old path with the new path.
 # If the new path already exists and it is not a directory, this replaces the file.
+# If the new path is on another file system, the file or directory is copied under a temporary name next to the new
+# path, synchronized with the storage and atomically published at the new path without replacing an entry created
+# there in the meantime, and only then the old path is removed.
 # ```ballerina
 # check file:rename("/A/B/C", "/A/B/D");
 # ```
 #
 # + oldPath - String value of the old file path
 # + newPath - String value of the new file path
+# + durability - Indicates how the renamed file and the directory entries are made durable
 # + return - An `file:Error` if failed to rename
-public isolated function rename(string oldPath, string newPath) returns Error? = @java:Method {
+public isolated function rename(string oldPath, string newPath, Durability durability = NONE)
+returns Error? = @java:Method {
     'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
     name: "rename"
 } external;
 
+# Creates a hard link to an existing file, so that both paths refer to the same data.
+# ```ballerina
+# check file:link("/A/B/C.txt", "/A/B/D.txt");
+# ```
+#
+# + existingPath - String value of the path of the existing file
+# + linkPath - String value of the path of the new link
+# + return - An `file:Error` if failed to create the link
+public isolated function link(string existingPath, string linkPath) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "link"
+} external;
+
 # Creates a file in the specified file path.
 # Truncates if the file already exists in the given path.
 # ```ballerina
@@ -77,13 +174,14 @@ public isolated function rename(string oldPath, string newPath) returns Error? =
 # ```
 #
 # + path - String value of the file path
+# + durability - Indicates how the created file and its directory entry are made durable
 # + return - A `file:Error` if file creation failed
-public isolated function create(string path) returns Error? = @java:Method {
+public isolated function create(string path, Durability durability = NONE) returns Error? = @java:Method {
     'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
     name: "createFile"
 } external;
 
-isolated function getRawMetaData(string path) returns MetaData|Error = @java:Method {
+isolated function getRawMetaData(string path, MetaDataOptions options) returns MetaData|Error = @java:Method {
     'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
     name: "getMetaData"
 } external;
@@ -91,12 +189,16 @@ isolated function getRawMetaData(string path) returns MetaData|Error = @java:Met
 # Returns the metadata information of the file specified in the file path.
 # ```ballerina
 # file:MetaData result = check file:getMetaData("foo/bar.txt");
+# file:MetaData sizeOnly = check file:getMetaData("foo/bar.txt", {modifiedTime: false, readable: false,
+#     writable: false});
 # ```
 #
 # + path - String value of the file path.
+# + options - The fields of the `MetaData` to be populated. All the fields are populated by default.
 # + return - The `MetaData` instance with the file metadata or else a `file:Error`
-public isolated function getMetaData(string path) returns (MetaData & readonly)|Error {
-    var result = getRawMetaData(path);
+public isolated function getMetaData(string path, MetaDataOptions options = {})
+returns (MetaData & readonly)|Error {
+    var result = getRawMetaData(path, options);
     if (result is MetaData) {
         return <readonly & MetaData>result.cloneReadOnly();
     } else {
@@ -104,7 +206,30 @@ public isolated function getMetaData(string path) returns (MetaData & readonly)|
     }
 }
 
-isolated function readDirRaw(string path) returns MetaData[]|Error = @java:Method {
+isolated function getRawMetaDataBatch(string[] paths, MetaDataOptions options)
+returns (MetaData|error)[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "getMetaDataBatch"
+} external;
+
+# Returns the metadata information of each of the given file paths. The paths are processed in parallel, and the
+# result of each path is returned at the same index as the path, as either its metadata or the error of that path.
+# ```ballerina
+# (file:MetaData|file:Error)[] results = check file:getMetaDataBatch(["foo/bar.txt", "foo/baz.txt"]);
+# ```
+#
+# + paths - String values of the file paths
+# + options - The fields of the `MetaData` to be populated. All the fields are populated by default.
+# + return - The `MetaData` instance or the `file:Error` of each path, or else a `file:Error` if the batch failed
+public isolated function getMetaDataBatch(string[] paths, MetaDataOptions options = {})
+returns ((MetaData & readonly)|Error)[]|Error {
+    (MetaData|error)[] results = check getRawMetaDataBatch(paths, options);
+    return from MetaData|error result in results
+        select result is MetaData ? result.cloneReadOnly() : <Error>result;
+}
+
+isolated function readDirRaw(string path, string? pattern, MetaDataOptions options)
+returns MetaData[]|Error = @java:Method {
     'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
     name: "readDir"
 } external;
@@ -113,12 +238,88 @@ isolated function readDirRaw(string path) returns MetaData[]|Error = @java:Metho
 # inside the specified directory.
 # ```ballerina
 # file:MetaData[] results = check file:readDir("foo/bar");
+# file:MetaData[] csvFiles = check file:readDir("foo/bar", "*.csv");
 # ```
 #
 # + path - String value of the directory path
+# + pattern - Return only the entries whose names match this pattern. Patterns prefixed with `regex:` are
+#             regular expressions and other patterns are glob patterns. The names are matched before the
+#             metadata of the entries is read.
+# + options - The fields of the `MetaData` to be populated. All the fields are populated by default.
 # + return - The `MetaData` array or else a `file:Error` if there is an error
-public isolated function readDir(string path) returns (MetaData[] & readonly)|Error {
-    var result = readDirRaw(path);
+public isolated function readDir(string path, string? pattern = (), MetaDataOptions options = {})
+returns (MetaData[] & readonly)|Error {
+    var result = readDirRaw(path, pattern, options);
+    if result is MetaData[] {
+        return <readonly & MetaData[]>result.cloneReadOnly();
+    } else {
+        return result;
+    }
+}
+
+# Reads the directory lazily and returns a stream of metadata of files and directories
+# inside the specified directory. Entries are read on demand, so memory usage does not depend on the
+# size of the directory. The stream should be closed if it is not consumed completely.
+# ```ballerina
+# stream<file:MetaData, file:Error?> entries = check file:readDirStream("foo/bar");
+# ```
+#
+# + path - String value of the directory path
+# + return - A `MetaData` stream or else a `file:Error` if the directory cannot be opened
+public isolated function readDirStream(string path) returns stream<MetaData, Error?>|Error {
+    MetaDataStream metaDataStream = new;
+    check openDirStream(metaDataStream, path);
+    return new stream<MetaData, Error?>(metaDataStream);
+}
+
+isolated function readDirPageRaw(string path, int pageSize, string? cursor) returns DirPage|Error = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "readDirPage"
+} external;
+
+# Reads a single page of the metadata of files and directories inside the specified directory.
+# Entries are ordered by their names. The cursor of a page can be passed to get the following page
+# without reading the preceding pages again, and only a single page of entries is held in memory.
+# ```ballerina
+# file:DirPage page = check file:readDirPage("foo/bar", 100);
+# file:DirPage nextPage = check file:readDirPage("foo/bar", 100, page.cursor);
+# ```
+#
+# + path - String value of the directory path
+# + pageSize - Maximum number of entries in the page
+# + cursor - The cursor returned with the previous page or else `()` to get the first page
+# + return - The `DirPage` or else a `file:Error` if there is an error
+public isolated function readDirPage(string path, int pageSize, string? cursor = ())
+returns (DirPage & readonly)|Error {
+    var result = readDirPageRaw(path, pageSize, cursor);
+    if result is DirPage {
+        return <readonly & DirPage>result.cloneReadOnly();
+    } else {
+        return result;
+    }
+}
+
+isolated function topKRaw(string path, SortKey key, int n, SortOrder 'order) returns MetaData[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "topK"
+} external;
+
+# Reads the `n` entries of the specified directory that come first when ordered by the given key. The entries are
+# selected while the directory is listed and at most `n` of them are kept at a time, so the memory usage does not
+# grow with the size of the directory. Entries with equal keys are ordered by their names.
+# ```ballerina
+# file:MetaData[] oldest = check file:topK("foo/bar", file:MODIFIED_TIME, 500);
+# file:MetaData[] largest = check file:topK("foo/bar", file:SIZE, 100, file:DESCENDING);
+# ```
+#
+# + path - String value of the directory path
+# + key - The key by which the entries are ordered
+# + n - The maximum number of entries to be returned
+# + order - The order of the entries
+# + return - The `MetaData` array in the given order or else a `file:Error` if there is an error
+public isolated function topK(string path, SortKey key, int n, SortOrder 'order = ASCENDING)
+returns (MetaData[] & readonly)|Error {
+    var result = topKRaw(path, key, n, 'order);
     if result is MetaData[] {
         return <readonly & MetaData[]>result.cloneReadOnly();
     } else {
@@ -126,6 +327,56 @@ public isolated function readDir(string path) returns (MetaData[] & readonly)|Er
     }
 }
 
+# Walks the directory tree rooted at the specified directory and returns a stream of metadata of the files and
+# directories that match the given filter. Subdirectories are walked in parallel, so the order of the entries is not
+# defined. Symbolic links are not followed when walking the tree. Like `diskUsage`, the entries and subdirectories
+# that cannot be read due to their permissions are skipped instead of ending the stream with an error. The stream
+# should be closed if it is not consumed completely.
+# ```ballerina
+# stream<file:MetaData, file:Error?> entries = check file:walk("foo/bar", 3, {includeDirs: false});
+# ```
+#
+# + path - String value of the directory path
+# + maxDepth - Maximum number of directory levels to walk, where `1` returns only the entries of the given directory.
+#              The whole tree is walked by default.
+# + filter - Filter applied to the entries of the tree
+# + return - A `MetaData` stream or else a `file:Error` if the directory cannot be walked
+public isolated function walk(string path, int? maxDepth = (), WalkFilter filter = {})
+returns stream<MetaData, Error?>|Error {
+    MetaDataStream metaDataStream = new;
+    check openWalkStream(metaDataStream, path, maxDepth, filter);
+    return new stream<MetaData, Error?>(metaDataStream);
+}
+
+isolated function diskUsageRaw(string path, int depth) returns DiskUsage[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "diskUsage"
+} external;
+
+# Returns the total size and the number of files and directories of the directory tree rooted at the specified path.
+# Subtrees are aggregated in parallel and no metadata is created per file. Symbolic links are counted as files of
+# their own size and are not followed. Like `du`, entries that cannot be read due to their permissions are counted as
+# skipped and left out of the totals. The first entry of the result is the usage of the given directory. It is
+# followed by the usage of each subdirectory up to the given depth, with each directory followed by its own
+# subdirectories, ordered by their paths.
+# ```ballerina
+# file:DiskUsage[] usage = check file:diskUsage("foo/bar", 1);
+# ```
+#
+# + path - String value of the directory path
+# + depth - Number of directory levels below the given directory for which the usage is reported separately, where
+#           `1` reports the usage of each top-level subdirectory. Only the total usage is reported by default.
+# + return - The `DiskUsage` array or else a `file:Error` if the given directory cannot be read, or if a directory of
+#            the tree cannot be read for a reason other than its permissions
+public isolated function diskUsage(string path, int depth = 0) returns (DiskUsage[] & readonly)|Error {
+    var result = diskUsageRaw(path, depth);
+    if result is DiskUsage[] {
+        return <readonly & DiskUsage[]>result.cloneReadOnly();
+    } else {
+        return result;
+    }
+}
+
 # Copy the file/directory in the old path to the new path.
 # ```ballerina
 # check file:copy("/A/B/C", "/A/B/D", true);
@@ -144,6 +395,85 @@ public isolated function copy(string sourcePath, string destinationPath,
     name: "copy"
 } external;
 
+# Copy the file/directory in the old path to the new path as specified by the given configurations.
+# When the parallelism is greater than one, the files of a directory tree are copied in parallel on a work-stealing
+# pool of that many worker threads. Each directory is created before its entries are copied, and the copy continues
+# past the entries that cannot be copied and reports them together once the whole tree is processed.
+# With the `TRANSFER` method, regular files are copied in chunks of the given size without passing the data through
+# the application, and the given `CopyProgress` handle is updated after each chunk.
+# ```ballerina
+# check file:copyWithConfig("/A/B/C", "/A/B/D", {options: [file:REPLACE_EXISTING], parallelism: 8});
+# ```
+#
+# + sourcePath - String value of the old file path
+# + destinationPath - String value of the new file path
+# + config - The configurations of the copy operation
+# + return - An `file:Error` if failed to copy
+public isolated function copyWithConfig(string sourcePath, string destinationPath, CopyConfig config = {})
+returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "copyWithConfig"
+} external;
+
+# Copy the file/directory in the old path to the new path as specified by the given configurations, and return the
+# statistics of the copy. The entries of the source that cannot be copied, such as the files that already exist in
+# the destination or the directories that cannot be read, are skipped and reported in the statistics together with
+# the reason, and the rest of the source is copied.
+# ```ballerina
+# file:OperationStats stats = check file:copyWithStats("/A/B/C", "/A/B/D");
+# ```
+#
+# + sourcePath - String value of the old file path
+# + destinationPath - String value of the new file path
+# + config - The configurations of the copy operation
+# + return - The statistics of the copy operation or else a `file:Error` if failed to copy
+public isolated function copyWithStats(string sourcePath, string destinationPath, CopyConfig config = {})
+returns OperationStats|Error = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "copyWithStats"
+} external;
+
+# Copy the file in the old path to the new path, and compute the checksum of its content in the same pass.
+# Each chunk read from the source is added to the checksum before it is written to the destination, so the file is read
+# and written only once. If an expected checksum is given and it does not match, the copied file is removed and a
+# `file:ChecksumMismatchError` is returned.
+# ```ballerina
+# string checksum = check file:copyWithChecksum("/A/B/C.tar", "/A/B/D.tar", file:SHA_256);
+# ```
+#
+# + sourcePath - String value of the old file path
+# + destinationPath - String value of the new file path
+# + algorithm - The algorithm used to compute the checksum
+# + expectedChecksum - The expected checksum of the file as a hexadecimal string
+# + options - Parameter to denote how the copy operation should be done (supports REPLACE_EXISTING, COPY_ATTRIBUTES,
+#             and NO_FOLLOW_LINKS)
+# + return - The checksum of the copied file as a lowercase hexadecimal string or else a `file:Error` if failed to copy
+public isolated function copyWithChecksum(string sourcePath, string destinationPath,
+        ChecksumAlgorithm algorithm = SHA_256, string? expectedChecksum = (), CopyOption... options)
+returns string|Error = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "copyWithChecksum"
+} external;
+
+# Synchronizes the file/directory in the destination path with the file/directory in the source path.
+# A file is copied only if the destination does not have a file of the same size and last modified time, or of the
+# same content when the `checksum` option is set. The copied files keep the last modified time of the source, so they
+# are skipped by the next sync operation. Symbolic links are copied as links, and are skipped when the destination has
+# a link to the same path.
+# ```ballerina
+# file:SyncSummary summary = check file:sync("/A/B/C", "/A/B/D", {delete: true});
+# ```
+#
+# + sourcePath - String value of the source file path
+# + destinationPath - String value of the destination file path
+# + options - The options of the sync operation
+# + return - The summary of the sync operation or else a `file:Error` if failed to synchronize
+public isolated function sync(string sourcePath, string destinationPath, SyncOptions options = {})
+returns SyncSummary|Error = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "sync"
+} external;
+
 # Creates a temporary file.
 # ```ballerina
 # string tmpFile = check file:createTemp();
@@ -193,3 +523,23 @@ public isolated function test(string path, TestOption testOption) returns boolea
     'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
     name: "test"
 } external;
+
+isolated function testRawBatch(string[] paths, TestOption testOption) returns (boolean|error)[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "testBatch"
+} external;
+
+# Tests each of the given file paths against a test condition. The paths are processed in parallel, and the result of
+# each path is returned at the same index as the path.
+# ```ballerina
+# (boolean|file:Error)[] results = check file:testBatch(["foo/bar.txt", "foo/baz.txt"], file:EXISTS);
+# ```
+#
+# + paths - String values of the file paths
+# + testOption - The option to be tested upon the paths. The supported options are the same as of `test`
+# + return - The result or the `file:Error` of each path, or else a `file:Error` if the batch failed
+public isolated function testBatch(string[] paths, TestOption testOption) returns (boolean|Error)[]|Error {
+    (boolean|error)[] results = check testRawBatch(paths, testOption);
+    return from boolean|error result in results
+        select result is boolean ? result : <Error>result;
+}
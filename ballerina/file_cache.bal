@@ -0,0 +1,90 @@
+// Copyright (c) 2026 WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents the configurations of the metadata cache.
+#
+# + maxEntries - The maximum number of paths held by the cache. Once the cache is full, entries are evicted in
+#                approximately least recently used order
+# + ttl - The time in seconds for which an entry is served from the cache
+public type MetaDataCacheConfig record {|
+    int maxEntries = 10000;
+    decimal ttl = 1;
+|};
+
+# Represents the counters of the metadata cache.
+#
+# + hits - The number of lookups served from the cache
+# + misses - The number of lookups that queried the file system
+# + evictions - The number of entries evicted to keep the cache within `maxEntries`
+# + expirations - The number of entries dropped once their time to live elapsed
+# + size - The current number of entries in the cache
+public type MetaDataCacheStats record {|
+    int hits;
+    int misses;
+    int evictions;
+    int expirations;
+    int size;
+|};
+
+# Enables the metadata cache, which serves `file:getMetaData` and `file:test` from memory for the paths that were
+# queried recently. The entries of a path are invalidated when it is modified through this module or when a
+# `file:Listener` reports an event for it. Changes made by other means are observed once the entry expires.
+# Enabling the cache again replaces the existing cache and its entries.
+# ```ballerina
+# check file:enableMetaDataCache({maxEntries: 5000, ttl: 0.5});
+# ```
+#
+# + config - The configurations of the cache
+# + return - A `file:Error` if the configurations are invalid
+public isolated function enableMetaDataCache(MetaDataCacheConfig config = {}) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "enableMetaDataCache"
+} external;
+
+# Disables the metadata cache and drops its entries.
+# ```ballerina
+# file:disableMetaDataCache();
+# ```
+public isolated function disableMetaDataCache() = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "disableMetaDataCache"
+} external;
+
+# Invalidates the metadata cache entries of the given path, the paths below it and its parent directories.
+# All the entries are invalidated if no path is given.
+# ```ballerina
+# check file:invalidateMetaDataCache("foo/bar.txt");
+# ```
+#
+# + path - String value of the file/directory path
+# + return - A `file:Error` if the path is invalid
+public isolated function invalidateMetaDataCache(string? path = ()) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "invalidateMetaDataCache"
+} external;
+
+# Returns the counters of the metadata cache. All the counters are zero if the cache is disabled.
+# ```ballerina
+# file:MetaDataCacheStats stats = file:getMetaDataCacheStats();
+# ```
+#
+# + return - The counters of the cache
+public isolated function getMetaDataCacheStats() returns MetaDataCacheStats = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "getMetaDataCacheStats"
+} external;
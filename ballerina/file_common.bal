@@ -70,5 +70,162 @@ public enum CopyOption {
     NO_FOLLOW_LINKS
 }
 
+# Represents the methods that can be used to copy the content of files.
+#
+# + DEFAULT - Copy the files with the default copy mechanism of the platform. On Linux, the content of a regular file is
+# copied by the kernel, which creates a copy-on-write clone of the file on file systems that support it, such as Btrfs
+# and XFS, and copies the bytes on other file systems. There is therefore no separate method to clone files, as the
+# Java runtime provides no way to request or detect a clone.
+# + TRANSFER - Copy regular files in chunks with channel transfers, which let the operating system copy the data
+# without passing it through the application. The progress is updated after each chunk.
+# + SPARSE - Copy regular files in chunks, and leave the blocks that contain only zero bytes as holes in the copy, so
+# the copy of a sparse file takes only the space of its data. The progress is updated after each chunk.
+# + RESUMABLE - Copy regular files in chunks, and save a checkpoint with the number of bytes copied and their checksum
+# next to the destination file after each chunk. If the copy is interrupted, copying the file again verifies the bytes
+# already copied and continues from the checkpoint. The checkpoint is removed once the file is copied.
+# + HARD_LINK - Create hard links to regular files instead of copying their content, so the copy shares the data of
+# the source. Files that cannot be linked, such as files on another file system, are copied with the default method.
+public enum CopyMethod {
+    DEFAULT,
+    TRANSFER,
+    SPARSE,
+    RESUMABLE,
+    HARD_LINK
+}
+
+# Represents the algorithms used to compute the checksum of a copied file.
+#
+# + SHA_256 - The SHA-256 message digest
+# + CRC32C - The CRC-32C checksum, which is much faster to compute but does not detect deliberate modifications
+public enum ChecksumAlgorithm {
+    SHA_256,
+    CRC32C
+}
+
+# Represents the configurations of a copy operation.
+#
+# + options - The options applied when copying each file
+# + parallelism - The number of worker threads used to copy a directory tree, which is capped at 256. Directories are
+#                 copied sequentially by default.
+# + method - The method used to copy the content of the files
+# + chunkSize - The maximum number of bytes copied at a time by the `TRANSFER` method, and the number of bytes copied
+#               between the checkpoints of the `RESUMABLE` method
+# + progress - The handle updated with the progress of the copy operation
+# + durability - Indicates how the copied files and the created directories are made durable
+public type CopyConfig record {|
+    CopyOption[] options = [];
+    int parallelism = 1;
+    CopyMethod method = DEFAULT;
+    int chunkSize = 8388608;
+    CopyProgress? progress = ();
+    Durability durability = NONE;
+|};
+
+# Represents the configurations of a remove operation.
+#
+# + option - Indicates whether the files inside the given directory are removed recursively
+# + parallelism - The number of worker threads used to remove a directory tree recursively, which is capped at 256.
+#                 Directory trees are removed sequentially by default.
+public type RemoveConfig record {|
+    DirOption option = NON_RECURSIVE;
+    int parallelism = 1;
+|};
+
+# Represents the configurations of the background deletion of the trash used by `removeAsync`.
+#
+# + batchSize - The number of entries deleted between two pauses
+# + batchPause - The time in seconds the deletion pauses after each batch, or 0 to delete without pausing
+public type TrashConfig record {|
+    int batchSize = 512;
+    decimal batchPause = 0.005;
+|};
+
+# Represents an entry skipped by a copy, remove or purge operation.
+#
+# + absPath - The absolute path of the entry
+# + reason - The reason the entry was skipped
+public type SkippedEntry record {|
+    string absPath;
+    string reason;
+|};
+
+# Represents the time spent in a phase of an operation.
+#
+# + name - The name of the phase, which is `scan`, `copy` or `remove`. A copy always records the `scan` phase, which
+#          includes computing the size of the source when the copy reports its progress
+# + elapsedTime - The time spent in the phase (in seconds)
+public type PhaseTime record {|
+    string name;
+    decimal elapsedTime;
+|};
+
+# Represents the statistics of a copy or remove operation.
+#
+# + files - The number of files copied or removed
+# + dirs - The number of directories copied or removed
+# + bytes - The number of bytes of the files copied or removed
+# + skipped - The entries skipped by the operation
+# + phases - The time spent in each phase of the operation
+# + elapsedTime - The total time spent in the operation (in seconds)
+public type OperationStats record {|
+    int files;
+    int dirs;
+    int bytes;
+    SkippedEntry[] skipped;
+    PhaseTime[] phases;
+    decimal elapsedTime;
+|};
+
+# Represents the retention rules of a purge operation. A file is purged if its name matches the pattern and it is
+# older than the given age, or if it is among the oldest matching files that have to be deleted to bring the total
+# size of the matching files down to the given size. At least one of the rules is required.
+#
+# + olderThan - The age (in seconds) beyond which the files are deleted, by their last modified time
+# + pattern - Delete only the files whose names match this pattern. Patterns prefixed with `regex:` are regular
+#             expressions and other patterns are glob patterns.
+# + maxBytes - The maximum total size (in bytes) of the matching files to be kept
+# + recursive - Indicates whether the files of the subdirectories are purged as well
+public type PurgeOptions record {|
+    decimal? olderThan = ();
+    string? pattern = ();
+    int? maxBytes = ();
+    boolean recursive = false;
+|};
+
+# Represents the result of a purge operation.
+#
+# + filesScanned - The number of files scanned
+# + filesDeleted - The number of files deleted
+# + bytesReclaimed - The number of bytes of the deleted files
+# + skipped - The files that matched the rules but could not be deleted
+# + elapsedTime - The total time spent in the operation (in seconds)
+public type PurgeResult record {|
+    int filesScanned;
+    int filesDeleted;
+    int bytesReclaimed;
+    SkippedEntry[] skipped;
+    decimal elapsedTime;
+|};
+
+# Represents the keys by which the entries of a directory can be ordered.
+#
+# + SIZE - Order the entries by their size
+# + MODIFIED_TIME - Order the entries by their last modified time
+# + NAME - Order the entries by their name
+public enum SortKey {
+    SIZE,
+    MODIFIED_TIME,
+    NAME
+}
+
+# Represents the order in which the entries of a directory are returned.
+#
+# + ASCENDING - Return the entries with the smallest keys first
+# + DESCENDING - Return the entries with the largest keys first
+public enum SortOrder {
+    ASCENDING,
+    DESCENDING
+}
+
 # Represents a File service.
 public type Service distinct service object {};
@@ -0,0 +1,96 @@
+// Copyright (c) 2026 WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents the status of a copy operation.
+#
+# + bytesCopied - The number of bytes copied so far
+# + totalBytes - The total number of bytes to be copied, or `-1` if the copy has not started
+# + filesCopied - The number of files copied so far
+# + elapsedTime - The time elapsed since the copy started (in seconds)
+# + throughput - The average number of bytes copied per second
+# + completed - Whether the copy operation has finished, either successfully or with an error
+public type CopyStatus record {|
+    int bytesCopied;
+    int totalBytes;
+    int filesCopied;
+    decimal elapsedTime;
+    decimal throughput;
+    boolean completed;
+|};
+
+# Represents the options of a sync operation.
+#
+# + checksum - Whether files of the same size are compared by the SHA-256 digest of their content instead of their
+#              last modified time
+# + delete - Whether the entries of the destination that do not exist in the source are deleted
+public type SyncOptions record {|
+    boolean checksum = false;
+    boolean delete = false;
+|};
+
+# Represents the summary of a sync operation.
+#
+# + filesCopied - The number of files copied to the destination
+# + bytesCopied - The number of bytes copied to the destination
+# + filesSkipped - The number of files skipped as they were unchanged
+# + bytesSkipped - The number of bytes of the skipped files
+# + filesDeleted - The number of files deleted from the destination
+# + dirsDeleted - The number of directories deleted from the destination
+# + bytesDeleted - The number of bytes of the deleted files
+public type SyncSummary record {|
+    int filesCopied;
+    int bytesCopied;
+    int filesSkipped;
+    int bytesSkipped;
+    int filesDeleted;
+    int dirsDeleted;
+    int bytesDeleted;
+|};
+
+# Handle to poll the progress of a copy operation. The handle is passed to `copyWithConfig` and can be polled from
+# another strand while the copy is running, for example to show the estimated time of completion or to detect a
+# stalled copy. The counters are reset each time the handle is passed to a copy operation.
+# ```ballerina
+# file:CopyProgress progress = new;
+# future<file:Error?> result = start file:copyWithConfig("foo/large.bin", "bar/large.bin",
+#     {method: file:TRANSFER, progress});
+# file:CopyStatus status = progress.getStatus();
+# ```
+public isolated class CopyProgress {
+
+    public isolated function init() {
+        initCopyProgress(self);
+    }
+
+    # Returns the current status of the copy operation.
+    #
+    # + return - The status of the copy operation
+    public isolated function getStatus() returns CopyStatus {
+        return getCopyStatus(self);
+    }
+}
+
+isolated function initCopyProgress(CopyProgress copyProgress) = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "initCopyProgress"
+} external;
+
+isolated function getCopyStatus(CopyProgress copyProgress) returns CopyStatus = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "getCopyStatus"
+} external;
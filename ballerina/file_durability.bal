@@ -0,0 +1,66 @@
+// Copyright (c) 2026 WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents the policies used to make the changes of an operation durable, so that they are not lost if the system
+# crashes after the operation returns.
+#
+# + NONE - Leave the changes to be written to the storage by the operating system
+# + FILE - Synchronize each written file and its parent directory with the storage before the operation returns
+# + GROUP_COMMIT - Synchronize the written files and their parent directories in groups. A group is synchronized once
+# it has the configured number of files or its oldest file has waited for the configured delay, so an operation may
+# return before its changes are durable. Use `flushGroupCommit` to wait for the pending changes.
+public enum Durability {
+    NONE,
+    FILE,
+    GROUP_COMMIT
+}
+
+# Represents the configurations of the group commits.
+#
+# + maxFiles - The number of pending files and directories that triggers a group commit
+# + maxDelay - The maximum time in seconds a change waits for its group commit
+public type GroupCommitConfig record {|
+    int maxFiles = 1000;
+    decimal maxDelay = 0.1;
+|};
+
+# Configures the group commits used by the `GROUP_COMMIT` durability policy. The changes already pending are
+# synchronized as configured before.
+# ```ballerina
+# check file:configureGroupCommit({maxFiles: 500, maxDelay: 0.05});
+# ```
+#
+# + config - The configurations of the group commits
+# + return - A `file:Error` if the configurations are invalid
+public isolated function configureGroupCommit(GroupCommitConfig config = {}) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "configureGroupCommit"
+} external;
+
+# Synchronizes the changes pending for a group commit with the storage, and returns once they and the changes of the
+# groups already being synchronized are durable. A failure to synchronize a group after its operations have returned
+# is kept and returned by the next call to this function.
+# ```ballerina
+# check file:flushGroupCommit();
+# ```
+#
+# + return - A `file:Error` if a pending change, or a change of an earlier group, cannot be synchronized
+public isolated function flushGroupCommit() returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "flushGroupCommit"
+} external;
@@ -41,6 +41,9 @@ public type InvalidPathError distinct Error;
 # Represents an error, which occurs when the given pattern is not a valid file path pattern.
 public type InvalidPatternError distinct Error;
 
+# Represents an error, which occurs when the checksum of a copied file does not match the expected checksum.
+public type ChecksumMismatchError distinct Error;
+
 # Represents an error, which occurs when the given target file path cannot be derived relative to the base file path.
 public type RelativePathError distinct Error;
 
@@ -33,3 +33,69 @@ public type MetaData record{|
     boolean readable;
     boolean writable;
 |};
+
+# Represents the options to select the fields of the `MetaData` record to be populated. The absolute path is
+# always populated. Fields that are not selected are set to their zero values (i.e., `0`, `[0, 0]` and `false`)
+# and the file system is not queried for them.
+#
+# + size - Whether the size is populated
+# + modifiedTime - Whether the last modified time is populated
+# + dir - Whether the directory flag is populated
+# + readable - Whether the read permission is populated
+# + writable - Whether the write permission is populated
+public type MetaDataOptions record {|
+    boolean size = true;
+    boolean modifiedTime = true;
+    boolean dir = true;
+    boolean readable = true;
+    boolean writable = true;
+|};
+
+# Represents a page of entries of a directory returned by the `readDirPage` function.
+# Entries are ordered by their names.
+#
+# + entries - Metadata of the files and directories in the page
+# + cursor - Opaque token to obtain the next page or else `()` if this is the last page
+public type DirPage record {|
+    MetaData[] entries;
+    string? cursor;
+|};
+
+# Represents the disk usage of a directory tree returned by the `diskUsage` function.
+#
+# + absPath - Absolute path of the directory
+# + size - Total size of the files in the tree (in bytes)
+# + fileCount - Number of files in the tree
+# + dirCount - Number of directories in the tree, excluding the directory itself
+# + skippedCount - Number of entries in the tree that could not be read due to their permissions, which are left out
+#                  of the totals
+# + depth - Number of levels of the directory below the directory of which the disk usage was requested
+public type DiskUsage record {|
+    string absPath;
+    int size;
+    int fileCount;
+    int dirCount;
+    int skippedCount;
+    int depth;
+|};
+
+# Represents the filter applied to the entries of a directory tree walk. An entry is returned only if it
+# matches all the given conditions. The filter is evaluated natively before the metadata of the entry is created.
+#
+# + includeFiles - Whether files are returned
+# + includeDirs - Whether directories are returned
+# + minSize - Minimum size of the returned entries (in bytes)
+# + maxSize - Maximum size of the returned entries (in bytes)
+# + modifiedAfter - Return only the entries modified after this time
+# + modifiedBefore - Return only the entries modified before this time
+# + pattern - Return only the entries whose names match this pattern. Patterns prefixed with `regex:` are
+#             regular expressions and other patterns are glob patterns (e.g., `*.csv`).
+public type WalkFilter record {|
+    boolean includeFiles = true;
+    boolean includeDirs = true;
+    int? minSize = ();
+    int? maxSize = ();
+    time:Utc? modifiedAfter = ();
+    time:Utc? modifiedBefore = ();
+    string? pattern = ();
+|};
@@ -0,0 +1,61 @@
+// Copyright (c) 2026 WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Iterator of the `stream<MetaData, Error?>` values returned by the file module. The entries are pulled lazily from
+# the native layer and the native resources are released once the stream is exhausted or closed.
+isolated class MetaDataStream {
+
+    # Returns the next entry of the stream.
+    #
+    # + return - The next `MetaData` entry, `()` if the stream is exhausted or else a `file:Error`
+    public isolated function next() returns record {|MetaData value;|}|Error? {
+        MetaData|Error? entry = nextStreamEntry(self);
+        if entry is MetaData {
+            return {value: entry};
+        }
+        return entry;
+    }
+
+    # Closes the stream and releases the underlying native resources.
+    #
+    # + return - A `file:Error` if failed to close the stream
+    public isolated function close() returns Error? {
+        return closeStream(self);
+    }
+}
+
+isolated function openDirStream(MetaDataStream metaDataStream, string path) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "openDirStream"
+} external;
+
+isolated function openWalkStream(MetaDataStream metaDataStream, string path, int? maxDepth, WalkFilter filter)
+returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "openWalkStream"
+} external;
+
+isolated function nextStreamEntry(MetaDataStream metaDataStream) returns MetaData|Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "nextStreamEntry"
+} external;
+
+isolated function closeStream(MetaDataStream metaDataStream) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.file.nativeimpl.Utils",
+    name: "closeStream"
+} external;
@@ -91,6 +91,295 @@ function testCopyDir2() returns error? {
     }
 }
 
+@test:Config {}
+function testCopyDirParallel() returns error? {
+    string targetDir = tmpdir + "/src-dir-parallel";
+    check copyWithConfig(srcDir, targetDir, {parallelism: 4});
+    MetaData[] source = check readDir(srcDir);
+    MetaData[] target = check readDir(targetDir);
+    test:assertEquals(target.length(), source.length(), "Invalid number of entries copied!");
+    string readContent = check io:fileReadString(targetDir + "/nested-file.txt");
+    test:assertEquals(readContent, "Hi");
+
+    Error? result = copyWithConfig(srcDir, targetDir, {parallelism: 4});
+    test:assertTrue(result is FileSystemError, "Existing files replaced without REPLACE_EXISTING!");
+    check copyWithConfig(srcDir, targetDir, {options: [REPLACE_EXISTING], parallelism: 4});
+    check remove(targetDir, RECURSIVE);
+}
+
+@test:Config {}
+function testCopyWithTransfer() returns error? {
+    string targetFile = tmpdir + "/transfer-copy.txt";
+    CopyProgress progress = new;
+    test:assertEquals(progress.getStatus().totalBytes, -1);
+    check copyWithConfig(srcFile, targetFile, {method: TRANSFER, chunkSize: 1, progress});
+    MetaData source = check getMetaData(srcFile);
+    test:assertEquals(check io:fileReadBytes(targetFile), check io:fileReadBytes(srcFile));
+    CopyStatus status = progress.getStatus();
+    test:assertTrue(status.completed);
+    test:assertEquals(status.bytesCopied, source.size);
+    test:assertEquals(status.totalBytes, source.size);
+    test:assertEquals(status.filesCopied, 1);
+
+    // Like copy, an existing target is skipped without REPLACE_EXISTING rather than reported as an error.
+    check io:fileWriteString(targetFile, "Existing");
+    check copyWithConfig(srcFile, targetFile, {method: TRANSFER});
+    test:assertEquals(check io:fileReadString(targetFile), "Existing",
+            "Existing file replaced without REPLACE_EXISTING!");
+    check copyWithConfig(srcDir, tmpdir + "/transfer-copy-dir", {method: TRANSFER, parallelism: 2, progress});
+    test:assertEquals(progress.getStatus().filesCopied, 1);
+    check remove(targetFile);
+    check remove(tmpdir + "/transfer-copy-dir", RECURSIVE);
+}
+
+@test:Config {}
+function testRemoveParallel() returns error? {
+    string targetDir = tmpdir + "/parallel-remove";
+    foreach int i in 0 ..< 3 {
+        check createDir(string `${targetDir}/dir-${i}/nested`, RECURSIVE);
+        foreach int j in 0 ..< 40 {
+            check io:fileWriteString(string `${targetDir}/dir-${i}/nested/file-${j}.txt`, "Hi");
+        }
+    }
+    check removeWithConfig(targetDir, {option: RECURSIVE, parallelism: 4});
+    test:assertFalse(check test(targetDir, EXISTS));
+
+    Error? result = removeWithConfig(tmpdir, {option: RECURSIVE, parallelism: 0});
+    test:assertTrue(result is InvalidOperationError);
+}
+
+@test:Config {}
+function testRemoveAsync() returns error? {
+    string targetDir = tmpdir + "/async-remove";
+    check createDir(targetDir + "/nested", RECURSIVE);
+    check io:fileWriteString(targetDir + "/nested/file.txt", "Hi");
+    check removeAsync(targetDir);
+    test:assertFalse(check test(targetDir, EXISTS));
+
+    Error? result = removeAsync(targetDir);
+    test:assertTrue(result is FileNotFoundError);
+}
+
+@test:Config {}
+function testConfigureTrash() returns error? {
+    test:assertTrue(configureTrash({batchSize: 0}) is InvalidOperationError);
+    test:assertTrue(configureTrash({batchPause: -1}) is InvalidOperationError);
+
+    check configureTrash({batchSize: 1, batchPause: 0});
+    string targetDir = tmpdir + "/async-remove-unpaced";
+    check createDir(targetDir + "/nested", RECURSIVE);
+    check io:fileWriteString(targetDir + "/nested/file.txt", "Hi");
+    check removeAsync(targetDir);
+    test:assertFalse(check test(targetDir, EXISTS));
+    check configureTrash();
+}
+
+@test:Config {}
+function testPurge() returns error? {
+    string targetDir = tmpdir + "/purge";
+    check createDir(targetDir + "/nested", RECURSIVE);
+    foreach int i in 0 ..< 4 {
+        check io:fileWriteString(string `${targetDir}/file-${i}.log`, "Hello");
+    }
+    check io:fileWriteString(targetDir + "/file.txt", "Hello");
+    check io:fileWriteString(targetDir + "/nested/file.log", "Hello");
+
+    PurgeResult result = check purge(targetDir, {pattern: "*.log", maxBytes: 10});
+    test:assertEquals(result.filesScanned, 5);
+    test:assertEquals(result.filesDeleted, 2);
+    test:assertEquals(result.bytesReclaimed, 10);
+    test:assertEquals(result.skipped.length(), 0);
+
+    result = check purge(targetDir, {pattern: "*.log", recursive: true});
+    test:assertEquals(result.filesDeleted, 3);
+    test:assertTrue(check test(targetDir + "/file.txt", EXISTS));
+    test:assertFalse(check test(targetDir + "/nested/file.log", EXISTS));
+
+    PurgeResult|Error invalid = purge(targetDir, {});
+    test:assertTrue(invalid is InvalidOperationError);
+    check remove(targetDir, RECURSIVE);
+}
+
+@test:Config {}
+function testCopyAndRemoveWithStats() returns error? {
+    string targetDir = tmpdir + "/stats-copy-dir";
+    OperationStats stats = check copyWithStats(srcDir, targetDir);
+    test:assertEquals(stats.files, 1);
+    test:assertEquals(stats.dirs, 1);
+    test:assertEquals(stats.bytes, 2);
+    test:assertEquals(stats.skipped.length(), 0);
+    test:assertEquals(stats.phases.map(phase => phase.name), ["scan", "copy"]);
+
+    CopyProgress progress = new;
+    stats = check copyWithStats(srcDir, tmpdir + "/stats-progress-dir", {progress});
+    test:assertEquals(stats.phases.map(phase => phase.name), ["scan", "copy"]);
+    check remove(tmpdir + "/stats-progress-dir", RECURSIVE);
+
+    stats = check copyWithStats(srcDir + "/nested-file.txt", targetDir + "/nested-file.txt", {method: TRANSFER});
+    test:assertEquals(stats.files, 0, "Existing file replaced without REPLACE_EXISTING!");
+    test:assertEquals(stats.skipped.length(), 1);
+
+    // The entries of a directory that cannot be copied are skipped and the rest of the tree is copied, regardless of
+    // the parallelism.
+    foreach int parallelism in [1, 4] {
+        stats = check copyWithStats(srcDir, targetDir, {parallelism});
+        test:assertEquals(stats.files, 0, "Existing file replaced without REPLACE_EXISTING!");
+        test:assertEquals(stats.skipped.length(), 1);
+    }
+
+    stats = check removeWithStats(targetDir, RECURSIVE);
+    test:assertEquals(stats.files, 1);
+    test:assertEquals(stats.dirs, 1);
+    test:assertEquals(stats.bytes, 2);
+    test:assertEquals(stats.phases.map(phase => phase.name), ["remove"]);
+    test:assertFalse(check test(targetDir, EXISTS));
+}
+
+@test:Config {}
+function testCopyWithSparse() returns error? {
+    string sourceFile = tmpdir + "/sparse-src.bin";
+    string targetFile = tmpdir + "/sparse-copy.bin";
+    byte[] content = [];
+    content.setLength(20000);
+    content[5000] = 1;
+    content[19999] = 2;
+    check io:fileWriteBytes(sourceFile, content);
+    CopyProgress progress = new;
+    check copyWithConfig(sourceFile, targetFile, {method: SPARSE, progress});
+    test:assertEquals(check io:fileReadBytes(targetFile), content);
+    test:assertEquals(progress.getStatus().bytesCopied, 20000);
+
+    content[19999] = 0;
+    check io:fileWriteBytes(sourceFile, content);
+    check copyWithConfig(sourceFile, targetFile, {method: SPARSE, options: [REPLACE_EXISTING]});
+    test:assertEquals(check io:fileReadBytes(targetFile), content, "Trailing hole not preserved!");
+    check remove(sourceFile);
+    check remove(targetFile);
+}
+
+@test:Config {}
+function testCopyResumable() returns error? {
+    string sourceFile = tmpdir + "/resumable-src.txt";
+    string targetFile = tmpdir + "/resumable-copy.txt";
+    check io:fileWriteString(sourceFile, "Hello World");
+    check copyWithConfig(sourceFile, targetFile, {method: RESUMABLE, chunkSize: 4});
+    test:assertEquals(check io:fileReadString(targetFile), "Hello World");
+    test:assertFalse(check test(targetFile + ".checkpoint", EXISTS));
+
+    // A checkpoint of another copy of the source is not trusted, and the file is copied from the beginning.
+    check io:fileWriteString(targetFile, "Jello");
+    check io:fileWriteString(targetFile + ".checkpoint", "size=11\nmodifiedTime=0\noffset=5\ncrc32c=0\n");
+    check copyWithConfig(sourceFile, targetFile, {method: RESUMABLE, chunkSize: 4});
+    test:assertEquals(check io:fileReadString(targetFile), "Hello World");
+    test:assertFalse(check test(targetFile + ".checkpoint", EXISTS));
+    check remove(sourceFile);
+    check remove(targetFile);
+}
+
+@test:Config {}
+function testCopyWithHardLinks() returns error? {
+    string sourceDir = tmpdir + "/link-src";
+    string targetDir = tmpdir + "/link-copy";
+    check createDir(sourceDir);
+    check io:fileWriteString(sourceDir + "/linked.txt", "Hello");
+    check copyWithConfig(sourceDir, targetDir, {method: HARD_LINK});
+    test:assertEquals(check io:fileReadString(targetDir + "/linked.txt"), "Hello");
+    check io:fileWriteString(targetDir + "/linked.txt", "World");
+    test:assertEquals(check io:fileReadString(sourceDir + "/linked.txt"), "World", "File copied instead of linked!");
+
+    check link(sourceDir + "/linked.txt", sourceDir + "/other-link.txt");
+    check io:fileWriteString(sourceDir + "/other-link.txt", "Hi");
+    test:assertEquals(check io:fileReadString(targetDir + "/linked.txt"), "Hi");
+    Error? result = link(sourceDir + "/linked.txt", sourceDir + "/other-link.txt");
+    test:assertTrue(result is InvalidOperationError);
+    check remove(sourceDir, RECURSIVE);
+    check remove(targetDir, RECURSIVE);
+}
+
+@test:Config {}
+function testDurability() returns error? {
+    string createdFile = tmpdir + "/durable-file.txt";
+    check create(createdFile, FILE);
+    check rename(createdFile, tmpdir + "/durable-renamed.txt", FILE);
+    test:assertTrue(check test(tmpdir + "/durable-renamed.txt", EXISTS));
+
+    check configureGroupCommit({maxFiles: 2, maxDelay: 10});
+    check copyWithConfig(srcDir, tmpdir + "/durable-copy", {durability: GROUP_COMMIT});
+    check create(tmpdir + "/durable-group.txt", GROUP_COMMIT);
+    check flushGroupCommit();
+    test:assertEquals(check io:fileReadString(tmpdir + "/durable-copy/nested-file.txt"), "Hi");
+    check configureGroupCommit();
+
+    Error? result = configureGroupCommit({maxFiles: 0});
+    test:assertTrue(result is InvalidOperationError);
+    check remove(tmpdir + "/durable-renamed.txt");
+    check remove(tmpdir + "/durable-group.txt");
+    check remove(tmpdir + "/durable-copy", RECURSIVE);
+}
+
+@test:Config {}
+function testCopyWithInvalidChunkSize() {
+    Error? result = copyWithConfig(srcFile, tmpdir + "/invalid-chunk.txt", {method: TRANSFER, chunkSize: 0});
+    test:assertTrue(result is InvalidOperationError);
+}
+
+@test:Config {}
+function testCopyWithConfigInvalidParallelism() {
+    Error? result = copyWithConfig(srcDir, tmpdir + "/src-dir-invalid", {parallelism: 0});
+    test:assertTrue(result is InvalidOperationError);
+}
+
+@test:Config {}
+function testCopyWithChecksum() returns error? {
+    string sourceFile = tmpdir + "/checksum-src.txt";
+    string targetFile = tmpdir + "/checksum-copy.txt";
+    check io:fileWriteString(sourceFile, "Hello");
+    string checksum = check copyWithChecksum(sourceFile, targetFile);
+    test:assertEquals(checksum, "185f8db32271fe25f561a6fc938b2e264306ec304eda518007d1764826381969");
+    test:assertEquals(check io:fileReadString(targetFile), "Hello");
+
+    checksum = check copyWithChecksum(sourceFile, targetFile, CRC32C, "81D90E1B", REPLACE_EXISTING);
+    test:assertEquals(checksum, "81d90e1b");
+
+    string|Error result = copyWithChecksum(sourceFile, targetFile, CRC32C, "00000000", REPLACE_EXISTING);
+    test:assertTrue(result is ChecksumMismatchError);
+    test:assertFalse(check test(targetFile, EXISTS), "Copy with mismatched checksum not removed!");
+    result = copyWithChecksum(srcDir, tmpdir + "/checksum-dir");
+    test:assertTrue(result is InvalidOperationError);
+    check remove(sourceFile);
+}
+
+@test:Config {}
+function testSync() returns error? {
+    string targetDir = tmpdir + "/sync-dir";
+    SyncSummary summary = check sync(srcDir, targetDir);
+    test:assertEquals(summary.filesCopied, 1);
+    test:assertEquals(summary.bytesCopied, 2);
+    test:assertEquals(check io:fileReadString(targetDir + "/nested-file.txt"), "Hi");
+
+    summary = check sync(srcDir, targetDir, {checksum: true});
+    test:assertEquals(summary.filesCopied, 0);
+    test:assertEquals(summary.filesSkipped, 1);
+    test:assertEquals(summary.bytesSkipped, 2);
+
+    check io:fileWriteString(targetDir + "/extraneous.txt", "Hello");
+    summary = check sync(srcDir, targetDir);
+    test:assertEquals(summary.filesDeleted, 0);
+    test:assertTrue(check test(targetDir + "/extraneous.txt", EXISTS));
+    summary = check sync(srcDir, targetDir, {delete: true});
+    test:assertEquals(summary.filesSkipped, 1);
+    test:assertEquals(summary.filesDeleted, 1);
+    test:assertEquals(summary.bytesDeleted, 5);
+    test:assertFalse(check test(targetDir + "/extraneous.txt", EXISTS));
+    check remove(targetDir, RECURSIVE);
+}
+
+@test:Config {}
+function testSyncNonExistentSource() {
+    SyncSummary|Error result = sync(tmpdir + "/no-such-dir", tmpdir + "/sync-missing");
+    test:assertTrue(result is FileNotFoundError);
+}
+
 @test:Config {dependsOn: [testCopyDir]}
 function testRemoverecursivefalse() {
     error? removeResult = remove(tmpdir + "/src-dir");
@@ -132,6 +421,94 @@ function testMetadata() {
     }
 }
 
+@test:Config {}
+function testMetadataWithOptions() returns error? {
+    MetaData metadata = check getMetaData(srcFile, {modifiedTime: false, dir: false, readable: false,
+        writable: false});
+    test:assertTrue(metadata.size > 0, "Size not populated!");
+    test:assertEquals(metadata.modifiedTime[0], 0);
+    test:assertFalse(metadata.readable);
+}
+
+@test:Config {}
+function testReadDirWithOptions() returns error? {
+    MetaData[] metadata = check readDir(srcDir, options = {size: false, modifiedTime: false});
+    test:assertTrue(metadata.length() > 0, "Invalid number of entries!");
+    foreach MetaData entry in metadata {
+        test:assertEquals(entry.size, 0);
+        test:assertTrue(entry.readable);
+    }
+}
+
+@test:Config {}
+function testMetaDataCache() returns error? {
+    check enableMetaDataCache({maxEntries: 2, ttl: 60});
+    string cachedFile = tmpdir + "/cached-file.txt";
+    test:assertFalse(check test(cachedFile, EXISTS));
+    check create(cachedFile);
+    test:assertTrue(check test(cachedFile, EXISTS), "Cache entry not invalidated!");
+    MetaData metadata = check getMetaData(cachedFile);
+    test:assertFalse(metadata.dir);
+    _ = check getMetaData(srcFile);
+    _ = check getMetaData(srcDir);
+    MetaDataCacheStats stats = getMetaDataCacheStats();
+    test:assertEquals(stats.hits, 1);
+    test:assertEquals(stats.misses, 4);
+    test:assertEquals(stats.evictions, 1);
+    test:assertEquals(stats.size, 2);
+    check invalidateMetaDataCache();
+    test:assertEquals(getMetaDataCacheStats().size, 0);
+    check remove(cachedFile);
+    disableMetaDataCache();
+    test:assertEquals(getMetaDataCacheStats(), {hits: 0, misses: 0, evictions: 0, expirations: 0, size: 0});
+}
+
+@test:Config {}
+function testEnableMetaDataCacheInvalidConfig() {
+    Error? result = enableMetaDataCache({maxEntries: 0});
+    test:assertTrue(result is InvalidOperationError);
+    test:assertFalse(getMetaDataCacheStats().size > 0);
+}
+
+@test:Config {}
+function testGetMetaDataBatch() returns error? {
+    string[] paths = [srcFile, srcDir, "tests/resources/no-such-file.txt"];
+    (MetaData|Error)[] results = check getMetaDataBatch(paths);
+    test:assertEquals(results.length(), 3);
+    MetaData|Error fileResult = results[0];
+    if fileResult is MetaData {
+        test:assertEquals(fileResult.absPath, check getAbsolutePath(srcFile));
+        test:assertFalse(fileResult.dir);
+    } else {
+        test:assertFail("Error while reading the metadata: " + fileResult.message());
+    }
+    MetaData|Error dirResult = results[1];
+    test:assertTrue(dirResult is MetaData && dirResult.dir, "Invalid metadata of the directory!");
+    test:assertTrue(results[2] is FileNotFoundError);
+}
+
+@test:Config {}
+function testGetMetaDataBatchParallel() returns error? {
+    string[] paths = [];
+    foreach int i in 0 ..< 500 {
+        paths.push(i % 2 == 0 ? srcFile : srcDir);
+    }
+    (MetaData|Error)[] results = check getMetaDataBatch(paths, {readable: false, writable: false});
+    test:assertEquals(results.length(), paths.length());
+    foreach int i in 0 ..< results.length() {
+        MetaData|Error result = results[i];
+        test:assertTrue(result is MetaData && result.dir == (i % 2 != 0), "Result out of order at " + i.toString());
+    }
+}
+
+@test:Config {}
+function testTestBatch() returns error? {
+    (boolean|Error)[] results = check testBatch([srcFile, srcDir, "tests/resources/no-such-file.txt"], IS_DIR);
+    test:assertEquals(results, [false, true, false]);
+    results = check testBatch([], EXISTS);
+    test:assertEquals(results.length(), 0);
+}
+
 @test:Config {}
 function testMetadataNonExisting() {
     MetaData|error metadata = getMetaData(tmpdir + noFile);
@@ -149,6 +526,29 @@ function testReadDir() {
     }
 }
 
+@test:Config {}
+function testReadDirWithGlob() returns error? {
+    MetaData[] metadata = check readDir(rdDir, "*.txt");
+    test:assertEquals(metadata.length(), 1, "Invalid number of entries!");
+    test:assertTrue(metadata[0].absPath.endsWith("temp-file1.txt"));
+}
+
+@test:Config {}
+function testReadDirWithRegex() returns error? {
+    MetaData[] metadata = check readDir(rdDir, "regex:temp-.*");
+    test:assertEquals(metadata.length(), 2, "Invalid number of entries!");
+}
+
+@test:Config {}
+function testReadDirWithInvalidPattern() {
+    MetaData[]|error metadata = readDir(rdDir, "regex:[");
+    if metadata is error {
+        test:assertTrue(metadata is InvalidPatternError);
+    } else {
+        test:assertFail("Directory read with an invalid pattern!");
+    }
+}
+
 @test:Config {}
 function testReadNonExistingDir() {
     MetaData[]|error metadata = readDir(noDir);
@@ -184,6 +584,168 @@ function testReadFileWithReadDir() {
     }
 }
 
+@test:Config {}
+function testReadDirStream() returns error? {
+    stream<MetaData, Error?> entries = check readDirStream(rdDir);
+    int count = 0;
+    check from MetaData entry in entries
+        do {
+            test:assertTrue(entry.absPath.includes("temp-"));
+            count += 1;
+        };
+    test:assertEquals(count, 2, "Invalid number of entries!");
+}
+
+@test:Config {}
+function testReadDirStreamClose() returns error? {
+    stream<MetaData, Error?> entries = check readDirStream(rdDir);
+    record {|MetaData value;|}? entry = check entries.next();
+    test:assertTrue(entry !is ());
+    check entries.close();
+}
+
+@test:Config {}
+function testReadDirStreamNonExistingDir() {
+    stream<MetaData, Error?>|Error entries = readDirStream(noDir);
+    if entries is Error {
+        test:assertTrue(entries.message().includes("File not found"));
+    } else {
+        test:assertFail("Directory stream opened for a non-existing directory!");
+    }
+}
+
+@test:Config {}
+function testReadDirStreamWithFile() {
+    stream<MetaData, Error?>|Error entries = readDirStream(srcFile);
+    if entries is Error {
+        test:assertTrue(entries.message().includes("not a directory"));
+    } else {
+        test:assertFail("Directory stream opened for a file!");
+    }
+}
+
+@test:Config {}
+function testReadDirPage() returns error? {
+    DirPage firstPage = check readDirPage(rdDir, 1);
+    test:assertEquals(firstPage.entries.length(), 1, "Invalid page size!");
+    test:assertTrue(firstPage.entries[0].absPath.endsWith("temp-dir"));
+    test:assertTrue(firstPage.cursor is string, "Cursor not returned for the first page!");
+    DirPage lastPage = check readDirPage(rdDir, 1, firstPage.cursor);
+    test:assertEquals(lastPage.entries.length(), 1, "Invalid page size!");
+    test:assertTrue(lastPage.entries[0].absPath.endsWith("temp-file1.txt"));
+    test:assertEquals(lastPage.cursor, ());
+}
+
+@test:Config {}
+function testReadDirPageInvalidCursor() {
+    DirPage|error page = readDirPage(rdDir, 10, "!invalid!");
+    if page is error {
+        test:assertTrue(page.message().includes("Invalid cursor"));
+    } else {
+        test:assertFail("Page read with an invalid cursor!");
+    }
+}
+
+@test:Config {}
+function testWalk() returns error? {
+    stream<MetaData, Error?> entries = check walk(rdDir);
+    MetaData[] result = check from MetaData entry in entries select entry;
+    test:assertEquals(result.length(), 3, "Invalid number of entries!");
+}
+
+@test:Config {}
+function testWalkWithMaxDepth() returns error? {
+    stream<MetaData, Error?> entries = check walk(rdDir, 1);
+    MetaData[] result = check from MetaData entry in entries select entry;
+    test:assertEquals(result.length(), 2, "Invalid number of entries!");
+}
+
+@test:Config {}
+function testWalkWithFilter() returns error? {
+    stream<MetaData, Error?> entries = check walk(rdDir, filter = {includeDirs: false});
+    MetaData[] result = check from MetaData entry in entries select entry;
+    test:assertEquals(result.length(), 2, "Invalid number of entries!");
+    foreach MetaData entry in result {
+        test:assertFalse(entry.dir);
+    }
+}
+
+@test:Config {}
+function testWalkWithPattern() returns error? {
+    stream<MetaData, Error?> entries = check walk(rdDir, filter = {pattern: "*.txt"});
+    MetaData[] result = check from MetaData entry in entries select entry;
+    test:assertEquals(result.length(), 2, "Invalid number of entries!");
+}
+
+@test:Config {}
+function testTopK() returns error? {
+    MetaData[] entries = check topK(rdDir, NAME, 1);
+    test:assertEquals(entries.length(), 1);
+    test:assertEquals(entries[0].absPath, check joinPath(check getAbsolutePath(rdDir), "temp-dir"));
+    entries = check topK(rdDir, NAME, 5, DESCENDING);
+    test:assertEquals(entries.length(), 2);
+    test:assertEquals(entries[0].absPath, check joinPath(check getAbsolutePath(rdDir), "temp-file1.txt"));
+    entries = check topK(srcDir, SIZE, 1, DESCENDING);
+    test:assertEquals(entries.length(), 1);
+    foreach MetaData entry in check readDir(srcDir) {
+        test:assertTrue(entry.size <= entries[0].size, "Invalid largest entry!");
+    }
+    entries = check topK(rdDir, MODIFIED_TIME, 0);
+    test:assertEquals(entries.length(), 0);
+}
+
+@test:Config {}
+function testTopKInvalidCount() {
+    MetaData[]|Error entries = topK(rdDir, SIZE, -1);
+    test:assertTrue(entries is InvalidOperationError);
+}
+
+@test:Config {}
+function testDiskUsage() returns error? {
+    DiskUsage[] usage = check diskUsage(rdDir, 1);
+    test:assertEquals(usage.length(), 2, "Invalid number of entries!");
+    test:assertEquals(usage[0].absPath, check getAbsolutePath(rdDir));
+    test:assertEquals(usage[0].fileCount, 2);
+    test:assertEquals(usage[0].dirCount, 1);
+    test:assertEquals(usage[0].size, 0);
+    test:assertEquals(usage[0].skippedCount, 0);
+    test:assertEquals(usage[1].absPath, check joinPath(check getAbsolutePath(rdDir), "temp-dir"));
+    test:assertEquals(usage[1].fileCount, 1);
+    test:assertEquals(usage[1].depth, 1);
+}
+
+@test:Config {}
+function testDiskUsageOfFile() returns error? {
+    DiskUsage[] usage = check diskUsage(srcFile, 2);
+    MetaData metadata = check getMetaData(srcFile);
+    test:assertEquals(usage, [
+        {absPath: metadata.absPath, size: metadata.size, fileCount: 1, dirCount: 0, skippedCount: 0, depth: 0}
+    ]);
+}
+
+@test:Config {}
+function testDiskUsageIsReadOnly() returns error? {
+    DiskUsage[] usage = check diskUsage(rdDir, 1);
+    test:assertTrue(usage is readonly, "Disk usage is not read-only!");
+    test:assertTrue(usage[0] is readonly, "Disk usage entry is not read-only!");
+}
+
+@test:Config {}
+function testDiskUsageInvalidDepth() {
+    DiskUsage[]|Error usage = diskUsage(rdDir, -1);
+    test:assertTrue(usage is InvalidOperationError);
+}
+
+@test:Config {}
+function testWalkNonExistingDir() {
+    stream<MetaData, Error?>|Error entries = walk(noDir);
+    if entries is Error {
+        test:assertTrue(entries.message().includes("File not found"));
+    } else {
+        test:assertFail("Walked a non-existing directory!");
+    }
+}
+
 @test:Config {}
 function testFileExists() {
     boolean|error result = test(srcFile, EXISTS);
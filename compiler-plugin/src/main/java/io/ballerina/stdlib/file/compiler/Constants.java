@@ -44,12 +44,28 @@ public class Constants {
             "joinPath",
             "test",
             "copy",
+            "copyWithConfig",
+            "copyWithStats",
+            "copyWithChecksum",
+            "link",
+            "sync",
             "readDir",
+            "readDirStream",
+            "readDirPage",
+            "walk",
+            "diskUsage",
+            "topK",
             "read",
             "write",
             "remove",
+            "removeAsync",
+            "removeWithConfig",
+            "removeWithStats",
+            "purge",
             "create",
             "getMetaData",
+            "getMetaDataBatch",
+            "testBatch",
             "createTemp",
             "createTempDir"
     );
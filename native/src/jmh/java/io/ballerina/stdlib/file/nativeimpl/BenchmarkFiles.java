@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+
+/**
+ * Creates and deletes the directory trees used by the benchmarks. The trees are deleted with a plain file tree walk, so
+ * that the fixtures do not depend on the code being measured.
+ *
+ * @since 1.12.1
+ */
+final class BenchmarkFiles {
+
+    private BenchmarkFiles() {
+    }
+
+    /**
+     * Creates a directory tree with the given number of subdirectories below the root, each holding the given number
+     * of files.
+     *
+     * @param root         directory to create the tree in, which is created if it does not exist
+     * @param dirs         number of subdirectories
+     * @param filesPerDir  number of files in each subdirectory
+     * @param fileSize     size of each file in bytes
+     * @return the root of the tree
+     * @throws IOException if the tree cannot be created
+     */
+    static Path createWideTree(Path root, int dirs, int filesPerDir, int fileSize) throws IOException {
+        byte[] content = new byte[fileSize];
+        Files.createDirectories(root);
+        for (int i = 0; i < dirs; i++) {
+            Path dir = Files.createDirectory(root.resolve("dir-" + i));
+            for (int j = 0; j < filesPerDir; j++) {
+                Files.write(dir.resolve("file-" + j + ".txt"), content);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Creates a chain of nested directories below the root, each holding the given number of empty files.
+     *
+     * @param root          directory to create the tree in, which is created if it does not exist
+     * @param depth         number of nested directories
+     * @param filesPerLevel number of files in each directory
+     * @return the deepest directory of the tree
+     * @throws IOException if the tree cannot be created
+     */
+    static Path createDeepTree(Path root, int depth, int filesPerLevel) throws IOException {
+        Path dir = Files.createDirectories(root);
+        for (int i = 0; i < depth; i++) {
+            dir = Files.createDirectory(dir.resolve("level-" + i));
+            for (int j = 0; j < filesPerLevel; j++) {
+                Files.createFile(dir.resolve("file-" + j + ".txt"));
+            }
+        }
+        return dir;
+    }
+
+    /**
+     * Deletes the given directory tree if it exists.
+     *
+     * @param root root of the tree
+     * @throws IOException if the tree cannot be deleted
+     */
+    static void deleteTree(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                if (exc != null) {
+                    throw exc;
+                }
+                Files.delete(dir);
+                return CONTINUE;
+            }
+        });
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+
+/**
+ * Compares accessing the entries of a directory relative to the open directory, as {@link DirectoryHandles} does,
+ * with accessing them by their paths, which the kernel resolves from the root for every call. The difference grows
+ * with the depth of the directory. The path-based removal is the file tree visitor that the recursive remove used
+ * before. The tree is created again before each removal, which is not measured.
+ *
+ * @since 1.12.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DirectoryHandlesBenchmark {
+
+    @Param({"10", "200"})
+    private int depth;
+
+    @Param({"50"})
+    private int filesPerLevel;
+
+    private Path root;
+    private Path tree;
+    private Path deepest;
+
+    @Setup
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("directory-handles-benchmark");
+        tree = root.resolve("tree");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFiles.deleteTree(root);
+    }
+
+    @Setup(Level.Invocation)
+    public void createTree() throws IOException {
+        if (!Files.exists(tree)) {
+            deepest = BenchmarkFiles.createDeepTree(tree, depth, filesPerLevel);
+        }
+    }
+
+    @Benchmark
+    public void removeTreeByHandle() throws IOException {
+        DirectoryHandles.removeTree(tree, null);
+    }
+
+    @Benchmark
+    public void removeTreeByPath() throws IOException {
+        Files.walkFileTree(tree, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                Files.delete(dir);
+                return CONTINUE;
+            }
+        });
+    }
+
+    @Benchmark
+    public void readAttributesByHandle(Blackhole blackhole) throws IOException {
+        try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(deepest.getParent())) {
+            for (Path entry : dirStream) {
+                blackhole.consume(DirectoryHandles.readAttributes(dirStream, entry, LinkOption.NOFOLLOW_LINKS));
+            }
+        }
+    }
+
+    @Benchmark
+    public void readAttributesByPath(Blackhole blackhole) throws IOException {
+        try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(deepest.getParent())) {
+            for (Path entry : dirStream) {
+                blackhole.consume(Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS));
+            }
+        }
+    }
+}
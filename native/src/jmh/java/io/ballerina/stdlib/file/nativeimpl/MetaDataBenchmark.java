@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.file.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.file.utils.FileConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures `getMetaData` and `readDir` with all the `MetaData` fields selected, on a directory with the given number
+ * of files. The entry points are called as the Ballerina functions call them, so the attribute reads, the access
+ * checks and the creation of the records are all measured.
+ * <p>
+ * Each entry is read with one {@code stat} and one {@code access} call. The calls per entry can be counted with
+ * {@code strace -c -f} on a program that calls the entry points, as the difference between a run on this directory
+ * and a run on an empty directory, divided by the number of entries.
+ *
+ * @since 1.12.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetaDataBenchmark {
+
+    @Param({"100000"})
+    private int entries;
+
+    private BMap<BString, Object> options;
+    private BString dir;
+    private BString file;
+    private Path root;
+
+    @Setup
+    public void setUp() throws IOException {
+        options = ValueCreator.createMapValue();
+        for (String field : new String[]{FileConstants.SIZE, FileConstants.MODIFIED_TIME, FileConstants.DIR,
+                FileConstants.META_DATA_READABLE, FileConstants.META_DATA_WRITABLE}) {
+            options.put(StringUtils.fromString(field), true);
+        }
+        root = Files.createTempDirectory("metadata-benchmark");
+        for (int i = 0; i < entries; i++) {
+            Files.writeString(root.resolve("file-" + i + ".txt"), "content");
+        }
+        dir = StringUtils.fromString(root.toString());
+        file = StringUtils.fromString(root.resolve("file-0.txt").toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFiles.deleteTree(root);
+    }
+
+    @Benchmark
+    public Object getMetaData() {
+        return Utils.getMetaData(file, options);
+    }
+
+    @Benchmark
+    public Object readDir() {
+        return Utils.readDir(dir, null, options);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.file.nativeimpl;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.file.utils.FileUtils;
+import io.ballerina.stdlib.file.utils.MetaDataCache;
+import io.ballerina.stdlib.file.utils.MetaDataFields;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of `MetaData` records in records per second. The status of the file is given, so no file
+ * system call is made and only the record construction is measured. Run with `-prof gc` to report the allocated bytes
+ * per record as `gc.alloc.rate.norm`.
+ *
+ * @since 1.12.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetaDataRecordBenchmark {
+
+    private Path path;
+    private MetaDataCache.FileStatus status;
+
+    @Setup
+    public void setUp() {
+        path = Paths.get("/var/data/metadata-record-benchmark/file-0.txt");
+        status = new MetaDataCache.FileStatus(true, false, false, 4096, 1_700_000_000_123L, true, true);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> createMetaData() {
+        return FileUtils.getMetaData(path, status, MetaDataFields.ALL);
+    }
+}
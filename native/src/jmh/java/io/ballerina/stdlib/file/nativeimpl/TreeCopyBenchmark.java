@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.CopyOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential recursive copy with the parallel tree copy used by `copyWithConfig` when its parallelism
+ * is greater than one. A parallelism of one runs the sequential visitor used by `copy`.
+ *
+ * @since 1.12.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeCopyBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int parallelism;
+
+    @Param({"16"})
+    private int dirs;
+
+    @Param({"64"})
+    private int filesPerDir;
+
+    @Param({"16384"})
+    private int fileSize;
+
+    private Path root;
+    private Path source;
+    private Path target;
+    private FileCopier copier;
+
+    @Setup
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("tree-copy-benchmark");
+        source = BenchmarkFiles.createWideTree(root.resolve("source"), dirs, filesPerDir, fileSize);
+        target = root.resolve("target");
+        copier = FileCopier.of(new CopyOption[0]);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFiles.deleteTree(root);
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteTarget() throws IOException {
+        BenchmarkFiles.deleteTree(target);
+    }
+
+    @Benchmark
+    public void copyTree() throws IOException {
+        if (parallelism > 1) {
+            ParallelTreeCopy.copy(source, target, copier, parallelism);
+        } else {
+            Files.walkFileTree(source, new Utils.RecursiveDirCopyVisitor(source, target, copier));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential recursive remove with the parallel tree removal used by `removeWithConfig` when its
+ * parallelism is greater than one. A parallelism of one runs the sequential removal used by `remove`. The tree is
+ * created again before each removal, which is not measured.
+ *
+ * @since 1.12.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeRemoveBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int parallelism;
+
+    @Param({"32"})
+    private int dirs;
+
+    @Param({"128"})
+    private int filesPerDir;
+
+    private Path root;
+    private Path tree;
+
+    @Setup
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("tree-remove-benchmark");
+        tree = root.resolve("tree");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFiles.deleteTree(root);
+    }
+
+    @Setup(Level.Invocation)
+    public void createTree() throws IOException {
+        BenchmarkFiles.createWideTree(tree, dirs, filesPerDir, 0);
+    }
+
+    @Benchmark
+    public void removeTree() throws IOException {
+        if (parallelism > 1) {
+            ParallelTreeRemove.remove(tree, parallelism, null);
+        } else {
+            DirectoryHandles.removeTree(tree, null);
+        }
+    }
+}
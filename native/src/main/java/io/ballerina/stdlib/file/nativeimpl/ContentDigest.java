@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import io.ballerina.stdlib.file.utils.FileConstants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.CRC32C;
+
+/**
+ * Digest of the content of a file, which is updated with the bytes of the file as they are read.
+ *
+ * @since 1.12.1
+ */
+abstract class ContentDigest {
+
+    static final int BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Creates a digest of the given algorithm.
+     *
+     * @param algorithm name of the `ChecksumAlgorithm` member
+     * @return the digest
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    static ContentDigest of(String algorithm) {
+        if (FileConstants.CHECKSUM_SHA_256.equals(algorithm)) {
+            try {
+                return new MessageContentDigest(MessageDigest.getInstance("SHA-256"));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        } else if (FileConstants.CHECKSUM_CRC32C.equals(algorithm)) {
+            return new Crc32cContentDigest();
+        }
+        throw new IllegalArgumentException("Invalid checksum algorithm: " + algorithm);
+    }
+
+    /**
+     * Computes the digest of the content of the given file.
+     *
+     * @param algorithm name of the `ChecksumAlgorithm` member
+     * @param file      file to read
+     * @return the digest as a lowercase hexadecimal string
+     * @throws IOException if the file cannot be read
+     */
+    static String compute(String algorithm, Path file) throws IOException {
+        ContentDigest digest = of(algorithm);
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return digest.toHex();
+    }
+
+    /**
+     * Updates the digest with the remaining bytes of the given buffer, and consumes them.
+     *
+     * @param buffer bytes to digest
+     */
+    abstract void update(ByteBuffer buffer);
+
+    /**
+     * Returns the digest of the bytes seen so far.
+     *
+     * @return the digest as a lowercase hexadecimal string
+     */
+    abstract String toHex();
+
+    private static class MessageContentDigest extends ContentDigest {
+        private final MessageDigest digest;
+
+        MessageContentDigest(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        void update(ByteBuffer buffer) {
+            digest.update(buffer);
+        }
+
+        @Override
+        String toHex() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+
+    private static class Crc32cContentDigest extends ContentDigest {
+        private final CRC32C crc = new CRC32C();
+
+        @Override
+        void update(ByteBuffer buffer) {
+            crc.update(buffer);
+        }
+
+        @Override
+        String toHex() {
+            return String.format("%08x", crc.getValue());
+        }
+    }
+}
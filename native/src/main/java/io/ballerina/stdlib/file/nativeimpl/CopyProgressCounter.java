@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.file.utils.FileConstants;
+import io.ballerina.stdlib.file.utils.ModuleUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Native state of a `CopyProgress` handle. The copy updates the counters as it goes, and the handle is polled from
+ * Ballerina for a `CopyStatus` snapshot.
+ *
+ * @since 1.12.1
+ */
+class CopyProgressCounter {
+
+    private static final BString BYTES_COPIED = StringUtils.fromString("bytesCopied");
+    private static final BString TOTAL_BYTES = StringUtils.fromString("totalBytes");
+    private static final BString FILES_COPIED = StringUtils.fromString("filesCopied");
+    private static final BString ELAPSED_TIME = StringUtils.fromString("elapsedTime");
+    private static final BString THROUGHPUT = StringUtils.fromString("throughput");
+    private static final BString COMPLETED = StringUtils.fromString("completed");
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final AtomicLong bytesCopied = new AtomicLong();
+    private final AtomicLong filesCopied = new AtomicLong();
+    private volatile long totalBytes = -1;
+    private volatile long startNanos = 0;
+    private volatile long endNanos = 0;
+    private volatile boolean started = false;
+    private volatile boolean completed = false;
+
+    /**
+     * Resets the counters at the start of a copy.
+     *
+     * @param totalBytes number of bytes to be copied, or -1 if it is not known
+     */
+    void start(long totalBytes) {
+        bytesCopied.set(0);
+        filesCopied.set(0);
+        this.totalBytes = totalBytes;
+        this.completed = false;
+        this.startNanos = System.nanoTime();
+        this.started = true;
+    }
+
+    void addBytes(long bytes) {
+        bytesCopied.addAndGet(bytes);
+    }
+
+    void fileCopied() {
+        filesCopied.incrementAndGet();
+    }
+
+    void complete() {
+        endNanos = System.nanoTime();
+        completed = true;
+    }
+
+    /**
+     * Returns a `CopyStatus` record with the current values of the counters.
+     *
+     * @return `CopyStatus` record
+     */
+    BMap<BString, Object> toStatus() {
+        long bytes = bytesCopied.get();
+        long elapsedNanos = !started ? 0 : (completed ? endNanos : System.nanoTime()) - startNanos;
+        BigDecimal elapsed = BigDecimal.valueOf(elapsedNanos, 9);
+        BigDecimal throughput = elapsedNanos == 0 ? BigDecimal.ZERO :
+                BigDecimal.valueOf(bytes).multiply(BigDecimal.valueOf(NANOS_PER_SECOND))
+                        .divide(BigDecimal.valueOf(elapsedNanos), 3, RoundingMode.HALF_UP);
+        BMap<BString, Object> status = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                FileConstants.COPY_STATUS);
+        status.put(BYTES_COPIED, bytes);
+        status.put(TOTAL_BYTES, totalBytes);
+        status.put(FILES_COPIED, filesCopied.get());
+        status.put(ELAPSED_TIME, ValueCreator.createDecimalValue(elapsed));
+        status.put(THROUGHPUT, ValueCreator.createDecimalValue(throughput));
+        status.put(COMPLETED, completed);
+        return status;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.nio.file.CopyOption;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileStore;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+
+/**
+ * Moves a file or directory tree, including to another file system. Within a file system, the entry is renamed. To
+ * another file system, the entry is copied under a temporary name next to the target, the copied files and directories
+ * are synchronized with the storage, and the copy is atomically published at the target. The source is removed only
+ * once the target is durable, so a crash at any point leaves either the source or the complete target in place, along
+ * with at most a temporary copy to be removed.
+ *
+ * @since 1.12.1
+ */
+final class CrossDeviceMove {
+
+    private static final CopyOption[] COPY_OPTIONS = {StandardCopyOption.COPY_ATTRIBUTES, LinkOption.NOFOLLOW_LINKS};
+
+    private CrossDeviceMove() {
+    }
+
+    /**
+     * Moves the given entry. Like {@link Files#move}, an existing target is not replaced.
+     *
+     * @param source file or directory to move
+     * @param target path to move the entry to
+     * @throws IOException if the entry cannot be moved
+     */
+    static void move(Path source, Path target) throws IOException {
+        move(source, target, isSameFileStore(source, target));
+    }
+
+    /**
+     * Moves the given entry, renaming it if it is on the same file store as the target directory and copying it
+     * otherwise.
+     *
+     * @param source        file or directory to move
+     * @param target        path to move the entry to
+     * @param sameFileStore whether the source and the target directory are on the same file store
+     * @throws IOException if the entry cannot be moved
+     */
+    static void move(Path source, Path target, boolean sameFileStore) throws IOException {
+        if (sameFileStore) {
+            Files.move(source, target);
+            return;
+        }
+        if (Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+            throw new FileAlreadyExistsException(target.toString());
+        }
+        BasicFileAttributes attrs = Files.readAttributes(source, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        Path temp = target.resolveSibling("." + target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            List<Path> copied = new ArrayList<>();
+            Files.walkFileTree(source, new CopyVisitor(source, temp, copied));
+            GroupCommitter.sync(copied);
+            publish(temp, target, attrs);
+        } catch (IOException | RuntimeException e) {
+            removeQuietly(temp, e);
+            throw e;
+        }
+        try {
+            // A file published as a hard link leaves its temporary name behind.
+            Files.deleteIfExists(temp);
+            GroupCommitter.sync(List.of(target));
+        } catch (IOException e) {
+            throw new IOException("Created " + target + ", but failed to complete the move, so " + source +
+                    " was not removed: " + e.getMessage(), e);
+        }
+        try {
+            DirectoryHandles.removeTree(source, null);
+        } catch (IOException e) {
+            throw new IOException("Created " + target + ", but " + source + " was only partially removed: " +
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Publishes the complete copy at the target, failing if an entry has been created at the target since it was
+     * checked. A rename silently replaces an existing file or empty directory, so a regular file is hard-linked to
+     * the target instead, and other entries are renamed over an empty placeholder that reserves the target. Without
+     * POSIX semantics, a rename that is not asked to replace the target already fails if the target exists.
+     *
+     * @param temp   complete copy
+     * @param target path to publish the copy at
+     * @param attrs  attributes of the source
+     * @throws FileAlreadyExistsException if an entry exists at the target
+     * @throws IOException                if the copy cannot be published
+     */
+    static void publish(Path temp, Path target, BasicFileAttributes attrs) throws IOException {
+        if (!temp.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.move(temp, target);
+            return;
+        }
+        if (attrs.isRegularFile()) {
+            try {
+                Files.createLink(target, temp);
+                return;
+            } catch (FileAlreadyExistsException e) {
+                throw e;
+            } catch (UnsupportedOperationException | FileSystemException e) {
+                // The file system does not support hard links, so the target is reserved instead.
+            }
+        }
+        if (attrs.isDirectory()) {
+            Files.createDirectory(target);
+        } else {
+            Files.createFile(target);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            removePlaceholder(target, e);
+            throw e;
+        }
+    }
+
+    private static boolean isSameFileStore(Path source, Path target) throws IOException {
+        // A symbolic link is moved itself, so the file store of its directory is compared instead of its target's.
+        Path sourceEntry = Files.isSymbolicLink(source) ? source.getParent() : source;
+        Path targetDir = target.getParent();
+        if (sourceEntry == null || targetDir == null) {
+            return true;
+        }
+        try {
+            FileStore sourceStore = Files.getFileStore(sourceEntry);
+            return sourceStore.equals(Files.getFileStore(targetDir));
+        } catch (NoSuchFileException e) {
+            // The rename reports the missing entry.
+            return true;
+        }
+    }
+
+    private static void removePlaceholder(Path target, Exception failure) {
+        try {
+            // The placeholder is removed only while it is empty, as entries may have been added to it since.
+            BasicFileAttributes attrs = Files.readAttributes(target, BasicFileAttributes.class,
+                    LinkOption.NOFOLLOW_LINKS);
+            if (attrs.isDirectory() || attrs.isRegularFile() && attrs.size() == 0) {
+                Files.delete(target);
+            }
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static void removeQuietly(Path temp, Exception failure) {
+        try {
+            if (Files.exists(temp, LinkOption.NOFOLLOW_LINKS)) {
+                DirectoryHandles.removeTree(temp, null);
+            }
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Copies a tree, and collects the copied files and directories to be synchronized. Symbolic links are copied as
+     * links. The permissions and the last modified time of a directory are copied once its entries are copied, so
+     * that a read-only directory can be filled.
+     */
+    private static class CopyVisitor extends SimpleFileVisitor<Path> {
+        private final Path source;
+        private final Path target;
+        private final List<Path> copied;
+
+        CopyVisitor(Path source, Path target, List<Path> copied) {
+            this.source = source;
+            this.target = target;
+            this.copied = copied;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+            Path targetDir = target.resolve(source.relativize(dir));
+            Files.createDirectory(targetDir);
+            copied.add(targetDir);
+            return CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+            Path targetFile = target.resolve(source.relativize(file));
+            Files.copy(file, targetFile, COPY_OPTIONS);
+            if (attrs.isRegularFile()) {
+                copied.add(targetFile);
+            }
+            return CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+            if (exc != null) {
+                throw exc;
+            }
+            Path targetDir = target.resolve(source.relativize(dir));
+            PosixFileAttributeView posixView = Files.getFileAttributeView(targetDir, PosixFileAttributeView.class);
+            if (posixView != null) {
+                posixView.setPermissions(Files.getPosixFilePermissions(dir, LinkOption.NOFOLLOW_LINKS));
+            }
+            Files.setLastModifiedTime(targetDir, Files.getLastModifiedTime(dir, LinkOption.NOFOLLOW_LINKS));
+            return CONTINUE;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import io.ballerina.stdlib.file.utils.FileConstants;
+import io.ballerina.stdlib.file.utils.FileUtils;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Lazily reads the entries of a single directory through a {@link DirectoryStream}, so that only one entry is held
+ * in memory at a time regardless of the size of the directory.
+ *
+ * @since 1.12.1
+ */
+class DirectoryEntryIterator extends MetaDataIterator {
+
+    private final Iterator<Path> entries;
+
+    DirectoryEntryIterator(DirectoryStream<Path> dirStream) {
+        super(dirStream);
+        this.entries = dirStream.iterator();
+    }
+
+    @Override
+    Object nextEntry() {
+        try {
+            while (entries.hasNext()) {
+                Path entry = entries.next();
+                try {
+                    return FileUtils.getMetaData(entry);
+                } catch (NoSuchFileException e) {
+                    // The entry was removed after it was listed.
+                }
+            }
+            return null;
+        } catch (DirectoryIteratorException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e.getCause());
+        } catch (IOException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
+        } catch (SecurityException e) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, e);
+        }
+    }
+}
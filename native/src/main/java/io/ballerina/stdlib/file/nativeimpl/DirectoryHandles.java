@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SecureDirectoryStream;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Operations on the entries of an open directory. Where the directory stream is a {@link SecureDirectoryStream}, such
+ * as on Linux, the entries are accessed relative to the open directory in the style of {@code fstatat} and
+ * {@code unlinkat}, so the path of the directory is not resolved again for each entry, and an entry is not looked up
+ * under a different directory if the directory or one of its parents is renamed meanwhile. Otherwise, the entries are
+ * accessed by their paths.
+ *
+ * @since 1.12.1
+ */
+final class DirectoryHandles {
+
+    private DirectoryHandles() {
+    }
+
+    /**
+     * Reads the attributes of an entry of the given directory.
+     *
+     * @param dirStream open stream of the directory
+     * @param entry     entry returned by the stream
+     * @param options   options indicating how symbolic links are handled
+     * @return the attributes of the entry
+     * @throws IOException if the attributes cannot be read
+     */
+    static BasicFileAttributes readAttributes(DirectoryStream<Path> dirStream, Path entry, LinkOption... options)
+            throws IOException {
+        if (dirStream instanceof SecureDirectoryStream<Path> secureStream) {
+            return secureStream.getFileAttributeView(entry.getFileName(), BasicFileAttributeView.class, options)
+                    .readAttributes();
+        }
+        return Files.readAttributes(entry, BasicFileAttributes.class, options);
+    }
+
+    /**
+     * Removes the given file or directory tree. Symbolic links are removed rather than descended into.
+     *
+     * @param root  file or directory to remove
+     * @param stats statistics updated by the removal, or {@code null} if the statistics are not collected
+     * @throws IOException the first failure of the removal, which stops the removal
+     */
+    static void removeTree(Path root, OperationStatsCollector stats) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(root, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        if (attrs.isDirectory()) {
+            try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(root)) {
+                removeEntries(dirStream, stats);
+            }
+        }
+        Files.delete(root);
+        if (stats != null) {
+            count(stats, attrs);
+        }
+    }
+
+    private static void removeEntries(DirectoryStream<Path> dirStream, OperationStatsCollector stats)
+            throws IOException {
+        try {
+            for (Path entry : dirStream) {
+                BasicFileAttributes attrs;
+                try {
+                    attrs = readAttributes(dirStream, entry, LinkOption.NOFOLLOW_LINKS);
+                } catch (NoSuchFileException e) {
+                    // The entry was removed after it was listed.
+                    continue;
+                }
+                if (attrs.isDirectory()) {
+                    try (DirectoryStream<Path> subDirStream = newDirectoryStream(dirStream, entry)) {
+                        removeEntries(subDirStream, stats);
+                    }
+                }
+                delete(dirStream, entry, attrs.isDirectory());
+                if (stats != null) {
+                    count(stats, attrs);
+                }
+            }
+        } catch (DirectoryIteratorException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static DirectoryStream<Path> newDirectoryStream(DirectoryStream<Path> dirStream, Path dir)
+            throws IOException {
+        if (dirStream instanceof SecureDirectoryStream<Path> secureStream) {
+            // A directory replaced by a symbolic link after it was listed is not followed.
+            return secureStream.newDirectoryStream(dir.getFileName(), LinkOption.NOFOLLOW_LINKS);
+        }
+        return Files.newDirectoryStream(dir);
+    }
+
+    private static void delete(DirectoryStream<Path> dirStream, Path entry, boolean directory) throws IOException {
+        if (dirStream instanceof SecureDirectoryStream<Path> secureStream) {
+            if (directory) {
+                secureStream.deleteDirectory(entry.getFileName());
+            } else {
+                secureStream.deleteFile(entry.getFileName());
+            }
+        } else {
+            Files.delete(entry);
+        }
+    }
+
+    static void count(OperationStatsCollector stats, BasicFileAttributes attrs) {
+        if (attrs.isDirectory()) {
+            stats.dirProcessed();
+        } else {
+            stats.fileProcessed(attrs.size());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Aggregates the disk usage of a directory tree on the shared fork-join pool. Each directory is listed by its own
+ * task, so subtrees are aggregated concurrently. The attributes read while listing a directory are used both for the
+ * totals and to decide whether to descend, and no value is created per file. Symbolic links are counted as files of
+ * their own size and are never followed. Like `du`, entries that cannot be read due to their permissions are counted
+ * as skipped and left out of the totals instead of failing the computation.
+ *
+ * @since 1.12.1
+ */
+class DiskUsageTask extends RecursiveTask<DiskUsageTask.Usage> {
+
+    private final transient Failure failure;
+    private final transient Path dir;
+    private final int depth;
+    private final int reportDepth;
+
+    private DiskUsageTask(Failure failure, Path dir, int depth, int reportDepth) {
+        this.failure = failure;
+        this.dir = dir;
+        this.depth = depth;
+        this.reportDepth = reportDepth;
+    }
+
+    /**
+     * Computes the disk usage of the given directory.
+     *
+     * @param root        directory to aggregate
+     * @param reportDepth number of directory levels below the root for which the usage is reported separately
+     * @return the usage of the root, with the usage of its subdirectories up to the report depth
+     * @throws IOException if the root cannot be read, or if a directory of the tree cannot be read for a reason
+     *                     other than its permissions
+     */
+    static Usage compute(Path root, int reportDepth) throws IOException {
+        Failure failure = new Failure();
+        Usage usage = WorkerPools.forkJoinPool().invoke(new DiskUsageTask(failure, root, 0, reportDepth));
+        failure.rethrow();
+        return usage;
+    }
+
+    @Override
+    protected Usage compute() {
+        long size = 0;
+        long fileCount = 0;
+        long dirCount = 0;
+        long skippedCount = 0;
+        List<DiskUsageTask> subTasks = new ArrayList<>();
+        try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(dir)) {
+            for (Path entry : dirStream) {
+                if (failure.isSet()) {
+                    break;
+                }
+                BasicFileAttributes attrs;
+                try {
+                    attrs = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                } catch (NoSuchFileException e) {
+                    // The entry was removed after it was listed.
+                    continue;
+                } catch (AccessDeniedException | SecurityException e) {
+                    skippedCount++;
+                    continue;
+                }
+                if (attrs.isDirectory()) {
+                    dirCount++;
+                    DiskUsageTask subTask = new DiskUsageTask(failure, entry, depth + 1, reportDepth);
+                    subTask.fork();
+                    subTasks.add(subTask);
+                } else {
+                    fileCount++;
+                    size += attrs.size();
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // The directory was removed after it was listed.
+        } catch (AccessDeniedException | SecurityException e) {
+            if (depth == 0) {
+                failure.set(e);
+            } else {
+                // The directory is counted by its parent, so only its unreadable contents are skipped.
+                skippedCount++;
+            }
+        } catch (IOException e) {
+            failure.set(e);
+        } catch (DirectoryIteratorException e) {
+            failure.set(e.getCause());
+        }
+        List<Usage> children = depth < reportDepth ? new ArrayList<>(subTasks.size()) : List.of();
+        for (DiskUsageTask subTask : subTasks) {
+            Usage child = subTask.join();
+            size += child.size();
+            fileCount += child.fileCount();
+            dirCount += child.dirCount();
+            skippedCount += child.skippedCount();
+            if (depth < reportDepth) {
+                children.add(child);
+            }
+        }
+        if (children.size() > 1) {
+            children.sort(Comparator.comparing(Usage::path));
+        }
+        return new Usage(dir, depth, size, fileCount, dirCount, skippedCount, children);
+    }
+
+    /**
+     * Disk usage of a directory.
+     *
+     * @param path      path of the directory
+     * @param depth     number of levels below the root of the computation
+     * @param size      total size of the files in the tree in bytes
+     * @param fileCount number of files in the tree
+     * @param dirCount     number of directories in the tree, excluding the directory itself
+     * @param skippedCount number of entries of the tree that could not be read and are left out of the totals
+     * @param children     usage of the subdirectories, if they are within the report depth
+     */
+    record Usage(Path path, int depth, long size, long fileCount, long dirCount, long skippedCount,
+                 List<Usage> children) {
+    }
+
+    /**
+     * First failure of the computation. Once it is set, the remaining tasks stop listing their directories.
+     */
+    private static class Failure {
+        private final AtomicReference<Exception> exception = new AtomicReference<>();
+
+        boolean isSet() {
+            return exception.get() != null;
+        }
+
+        void set(Exception e) {
+            exception.compareAndSet(null, e);
+        }
+
+        void rethrow() throws IOException {
+            Exception e = exception.get();
+            if (e instanceof IOException ioException) {
+                throw ioException;
+            } else if (e instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Durability policies of the operations that write to the file system, as defined by the `Durability` enum. A policy
+ * is applied once a file or directory is written, and makes both the entry and its parent directory durable, so that
+ * neither the content nor the directory entry is lost on a crash.
+ *
+ * @since 1.12.1
+ */
+enum Durability {
+
+    /**
+     * Leaves the entries to be written back by the operating system.
+     */
+    NONE {
+        @Override
+        void commit(Path path) {
+        }
+    },
+
+    /**
+     * Synchronizes each entry and its parent directory before the operation returns.
+     */
+    FILE {
+        @Override
+        void commit(Path path) throws IOException {
+            GroupCommitter.sync(List.of(path));
+        }
+    },
+
+    /**
+     * Adds each entry to the pending group commit, which synchronizes the pending entries and their parent
+     * directories together once enough entries are pending or the oldest entry has waited long enough.
+     */
+    GROUP_COMMIT {
+        @Override
+        void commit(Path path) throws IOException {
+            GroupCommitter.add(path);
+        }
+    };
+
+    /**
+     * Makes the given entry and its parent directory durable as specified by the policy. An entry that no longer
+     * exists, such as the old path of a renamed file, only has its parent directory synchronized.
+     *
+     * @param path path of the written entry
+     * @throws IOException if the entry cannot be synchronized
+     */
+    abstract void commit(Path path) throws IOException;
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Native representation of the `WalkFilter` record. The filter is evaluated against the attributes read by the
+ * walker, before any `MetaData` value is created for the entry.
+ *
+ * @since 1.12.1
+ */
+class EntryFilter {
+
+    private static final BString INCLUDE_FILES = StringUtils.fromString("includeFiles");
+    private static final BString INCLUDE_DIRS = StringUtils.fromString("includeDirs");
+    private static final BString MIN_SIZE = StringUtils.fromString("minSize");
+    private static final BString MAX_SIZE = StringUtils.fromString("maxSize");
+    private static final BString MODIFIED_AFTER = StringUtils.fromString("modifiedAfter");
+    private static final BString MODIFIED_BEFORE = StringUtils.fromString("modifiedBefore");
+    private static final BString PATTERN = StringUtils.fromString("pattern");
+    private static final String GLOB_SYNTAX = "glob:";
+    private static final String REGEX_SYNTAX = "regex:";
+
+    private final boolean includeFiles;
+    private final boolean includeDirs;
+    private final long minSize;
+    private final long maxSize;
+    private final long modifiedAfter;
+    private final long modifiedBefore;
+    private final PathMatcher nameMatcher;
+
+    private EntryFilter(boolean includeFiles, boolean includeDirs, long minSize, long maxSize, long modifiedAfter,
+                        long modifiedBefore, PathMatcher nameMatcher) {
+        this.nameMatcher = nameMatcher;
+        this.includeFiles = includeFiles;
+        this.includeDirs = includeDirs;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.modifiedAfter = modifiedAfter;
+        this.modifiedBefore = modifiedBefore;
+    }
+
+    /**
+     * Creates the filter from a `WalkFilter` record.
+     *
+     * @param filter `WalkFilter` record
+     * @return the native filter
+     * @throws IllegalArgumentException if the name pattern of the filter is invalid
+     */
+    static EntryFilter from(BMap<BString, Object> filter) {
+        Object pattern = filter.get(PATTERN);
+        Object minSize = filter.get(MIN_SIZE);
+        Object maxSize = filter.get(MAX_SIZE);
+        Object modifiedAfter = filter.get(MODIFIED_AFTER);
+        Object modifiedBefore = filter.get(MODIFIED_BEFORE);
+        return new EntryFilter(filter.getBooleanValue(INCLUDE_FILES), filter.getBooleanValue(INCLUDE_DIRS),
+                minSize != null ? (Long) minSize : -1, maxSize != null ? (Long) maxSize : -1,
+                modifiedAfter != null ? toMillis((BArray) modifiedAfter) : Long.MIN_VALUE,
+                modifiedBefore != null ? toMillis((BArray) modifiedBefore) : Long.MAX_VALUE,
+                pattern != null ? createNameMatcher(((BString) pattern).getValue()) : null);
+    }
+
+    /**
+     * Creates a matcher for the file names of directory entries. Patterns prefixed with `regex:` are treated as
+     * regular expressions and all other patterns as glob patterns, with or without the `glob:` prefix.
+     *
+     * @param pattern glob or regex pattern
+     * @return the path matcher
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    static PathMatcher createNameMatcher(String pattern) {
+        if (pattern.startsWith(GLOB_SYNTAX) || pattern.startsWith(REGEX_SYNTAX)) {
+            return FileSystems.getDefault().getPathMatcher(pattern);
+        }
+        return FileSystems.getDefault().getPathMatcher(GLOB_SYNTAX + pattern);
+    }
+
+    /**
+     * Returns whether the file name of the entry matches the name pattern of the filter. This only compares the
+     * name, so it is evaluated before the attributes of the entry are read.
+     *
+     * @param path path of the entry
+     * @return true if the filter has no name pattern or if the name matches it
+     */
+    boolean matchesName(Path path) {
+        return nameMatcher == null || nameMatcher.matches(path.getFileName());
+    }
+
+    /**
+     * Returns whether the entry matches the filter.
+     *
+     * @param attrs attributes of the entry as read by the walker
+     * @return true if the entry should be returned
+     */
+    boolean matches(BasicFileAttributes attrs) {
+        if (attrs.isDirectory() ? !includeDirs : !includeFiles) {
+            return false;
+        }
+        long size = attrs.size();
+        if ((minSize >= 0 && size < minSize) || (maxSize >= 0 && size > maxSize)) {
+            return false;
+        }
+        long modified = attrs.lastModifiedTime().toMillis();
+        return modified > modifiedAfter && modified < modifiedBefore;
+    }
+
+    /**
+     * Converts a `time:Utc` value to milliseconds since the epoch.
+     *
+     * @param utc `time:Utc` value
+     * @return milliseconds since the epoch
+     */
+    static long toMillis(BArray utc) {
+        BigDecimal fraction = ((BDecimal) utc.get(1)).decimalValue();
+        return utc.getInt(0) * 1000 + fraction.movePointRight(3).longValue();
+    }
+}
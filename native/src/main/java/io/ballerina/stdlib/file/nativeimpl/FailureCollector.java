@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+
+/**
+ * Collects the failures of the tasks of a parallel tree operation, which continues past the entries that fail. The
+ * failures are reported together once the whole tree has been processed.
+ *
+ * @since 1.12.1
+ */
+class FailureCollector {
+
+    private IOException failure;
+    private int failureCount = 0;
+
+    synchronized void fail(IOException e) {
+        failureCount++;
+        if (failure == null) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Throws the failures of the operation, if any.
+     *
+     * @throws IOException the first failure itself if only one entry failed, or a failure with the count of the
+     *                     failures otherwise
+     */
+    synchronized void rethrow() throws IOException {
+        if (failureCount == 1) {
+            throw failure;
+        } else if (failureCount > 1) {
+            throw new IOException(failure.getMessage() + " (and " + (failureCount - 1) + " more failures)", failure);
+        }
+    }
+}
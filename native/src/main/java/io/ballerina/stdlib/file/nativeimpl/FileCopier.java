@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.CopyOption;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Copies single files for the copy operations of the file module, as specified by the copy method and options. The
+ * default method delegates to {@link Files#copy}, while the transfer method copies regular files in chunks with
+ * {@link FileChannel#transferTo}, which lets the kernel copy the data without passing it through user space, and
+ * reports the progress after each chunk. The sparse method also copies regular files in chunks, but leaves the blocks
+ * that contain only zero bytes unwritten, so they become holes of the target. The resumable method saves a checkpoint
+ * after each chunk, so that an interrupted copy continues from the last checkpoint. The hard link method links regular
+ * files to the source instead of copying them, and falls back to the default method where links cannot be created,
+ * such as across file systems. A regular file can also be copied while its content is digested, so that the copy is
+ * verified with a single read of the source and a single write of the target.
+ *
+ * @since 1.12.1
+ */
+class FileCopier {
+
+    private static final int SPARSE_CHUNK_SIZE = 1024 * 1024;
+    // Runs of zero bytes shorter than a file system block cannot become holes.
+    private static final int HOLE_BLOCK_SIZE = 4096;
+    private static final ByteBuffer ZERO_BLOCK = ByteBuffer.allocateDirect(HOLE_BLOCK_SIZE).asReadOnlyBuffer();
+
+    private final CopyOption[] options;
+    private final Method method;
+    private final long chunkSize;
+    private final CopyProgressCounter progress;
+    private final OperationStatsCollector stats;
+    private final Durability durability;
+    private final boolean replaceExisting;
+    private final boolean copyAttributes;
+    private final LinkOption[] linkOptions;
+
+    /**
+     * Creates a copier.
+     *
+     * @param options    options applied to each file copy
+     * @param method     method used to copy regular files
+     * @param chunkSize  maximum number of bytes transferred at a time by the transfer method
+     * @param progress   progress updated by the copies, or {@code null} if the progress is not tracked
+     * @param stats      statistics updated by the copies, or {@code null} if the statistics are not collected
+     * @param durability durability policy applied to the copied files and the created directories
+     */
+    FileCopier(CopyOption[] options, Method method, long chunkSize, CopyProgressCounter progress,
+               OperationStatsCollector stats, Durability durability) {
+        this.options = options;
+        this.method = method;
+        this.chunkSize = chunkSize;
+        this.progress = progress;
+        this.stats = stats;
+        this.durability = durability;
+        this.replaceExisting = Arrays.asList(options).contains(StandardCopyOption.REPLACE_EXISTING);
+        this.copyAttributes = Arrays.asList(options).contains(StandardCopyOption.COPY_ATTRIBUTES);
+        this.linkOptions = Arrays.asList(options).contains(LinkOption.NOFOLLOW_LINKS) ?
+                new LinkOption[]{LinkOption.NOFOLLOW_LINKS} : new LinkOption[0];
+    }
+
+    /**
+     * Creates a copier that delegates to {@link Files#copy} without tracking the progress.
+     *
+     * @param options options applied to each file copy
+     * @return the copier
+     */
+    static FileCopier of(CopyOption[] options) {
+        return new FileCopier(options, Method.DEFAULT, 0, null, null, Durability.NONE);
+    }
+
+    LinkOption[] linkOptions() {
+        return linkOptions;
+    }
+
+    /**
+     * Copies a file, or creates an empty directory if the source is a directory.
+     *
+     * @param source source path
+     * @param target target path
+     * @throws IOException if the copy fails
+     */
+    void copy(Path source, Path target) throws IOException {
+        if (method == Method.DEFAULT && progress == null && stats == null && durability == Durability.NONE) {
+            Files.copy(source, target, options);
+            return;
+        }
+        BasicFileAttributes attrs = Files.readAttributes(source, BasicFileAttributes.class, linkOptions);
+        if (method == Method.TRANSFER && attrs.isRegularFile()) {
+            transfer(source, target, attrs);
+        } else if (method == Method.SPARSE && attrs.isRegularFile()) {
+            copySparse(source, target, attrs);
+        } else if (method == Method.RESUMABLE && attrs.isRegularFile()) {
+            ResumableCopy.copy(source, target, attrs, chunkSize, replaceExisting, progress, createAttributes(source));
+            copyAttributes(source, target, attrs);
+        } else if (method == Method.HARD_LINK && attrs.isRegularFile() && link(source, target)) {
+            if (progress != null) {
+                progress.addBytes(attrs.size());
+            }
+        } else {
+            Files.copy(source, target, options);
+            if (progress != null && attrs.isRegularFile()) {
+                progress.addBytes(attrs.size());
+            }
+        }
+        if (progress != null && attrs.isRegularFile()) {
+            progress.fileCopied();
+        }
+        countCopied(attrs);
+        durability.commit(target);
+    }
+
+    /**
+     * Creates a directory of the target tree, unless it already exists.
+     *
+     * @param target target directory
+     * @throws IOException if the directory cannot be created
+     */
+    void createDirectory(Path target) throws IOException {
+        if (!Files.exists(target)) {
+            Files.createDirectory(target);
+        }
+        if (stats != null) {
+            stats.dirProcessed();
+        }
+        durability.commit(target);
+    }
+
+    /**
+     * Records an entry that was skipped as it could not be copied.
+     *
+     * @param source source path of the entry
+     * @param reason failure of the copy
+     */
+    void skipped(Path source, Exception reason) {
+        if (stats != null) {
+            stats.skip(source, reason);
+        }
+    }
+
+    /**
+     * Returns whether the entries that cannot be copied are recorded in the statistics, in which case a tree copy
+     * skips them and continues instead of failing.
+     *
+     * @return true if the skipped entries are recorded
+     */
+    boolean recordsSkipped() {
+        return stats != null;
+    }
+
+    private void countCopied(BasicFileAttributes attrs) {
+        if (stats == null) {
+            return;
+        }
+        if (attrs.isDirectory()) {
+            stats.dirProcessed();
+        } else {
+            stats.fileProcessed(attrs.size());
+        }
+    }
+
+    /**
+     * Copies a regular file and digests its content in the same pass. Each buffer read from the source is digested
+     * and then written to the target.
+     *
+     * @param source source file
+     * @param target target file
+     * @param digest digest updated with the content of the source
+     * @throws IOException if the copy fails
+     */
+    void copy(Path source, Path target, ContentDigest digest) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(source, BasicFileAttributes.class, linkOptions);
+        prepareTarget(target);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(ContentDigest.BUFFER_SIZE);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, Set.of(StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW),
+                     createAttributes(source))) {
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                int read = buffer.remaining();
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+                if (progress != null) {
+                    progress.addBytes(read);
+                }
+            }
+        }
+        copyAttributes(source, target, attrs);
+        if (progress != null) {
+            progress.fileCopied();
+        }
+        countCopied(attrs);
+        durability.commit(target);
+    }
+
+    private void prepareTarget(Path target) throws IOException {
+        if (replaceExisting) {
+            // Replaces the target itself as Files.copy does, rather than writing through a link at the target.
+            Files.deleteIfExists(target);
+        }
+    }
+
+    private boolean link(Path source, Path target) throws IOException {
+        // The link is created to the file itself, as creating a hard link to a symbolic link does not follow it on
+        // every platform.
+        Path existing = linkOptions.length == 0 ? source.toRealPath() : source;
+        prepareTarget(target);
+        try {
+            Files.createLink(target, existing);
+            return true;
+        } catch (FileAlreadyExistsException | NoSuchFileException e) {
+            throw e;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // Such as a cross-device link, or a file system without hard links.
+            return false;
+        }
+    }
+
+    private void transfer(Path source, Path target, BasicFileAttributes attrs) throws IOException {
+        prepareTarget(target);
+        IOException truncated = null;
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, Set.of(StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW),
+                     createAttributes(source))) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                long transferred = in.transferTo(position, Math.min(chunkSize, size - position), out);
+                if (transferred <= 0) {
+                    truncated = truncatedSource(source, size, in.size());
+                    break;
+                }
+                position += transferred;
+                if (progress != null) {
+                    progress.addBytes(transferred);
+                }
+            }
+        }
+        if (truncated != null) {
+            // Removes the partial target, as Files.copy does when a copy fails.
+            Files.deleteIfExists(target);
+            throw truncated;
+        }
+        copyAttributes(source, target, attrs);
+    }
+
+    /**
+     * Returns the failure of a copy whose source shrank while it was being copied, which would otherwise leave a
+     * truncated target.
+     *
+     * @param source       source file
+     * @param expectedSize size of the source when the copy started
+     * @param actualSize   size of the source when the end of its content was reached
+     * @return the failure of the copy
+     */
+    static IOException truncatedSource(Path source, long expectedSize, long actualSize) {
+        return new IOException("Source " + source + " was truncated while it was being copied: expected " +
+                expectedSize + " bytes, but it has " + actualSize + " bytes");
+    }
+
+    private void copySparse(Path source, Path target, BasicFileAttributes attrs) throws IOException {
+        prepareTarget(target);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(SPARSE_CHUNK_SIZE);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, Set.of(StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW,
+                     StandardOpenOption.SPARSE), createAttributes(source))) {
+            long position = 0;
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                int limit = buffer.limit();
+                int dataStart = -1;
+                for (int block = 0; block < limit; block += HOLE_BLOCK_SIZE) {
+                    boolean zero = isZero(buffer, block, Math.min(block + HOLE_BLOCK_SIZE, limit));
+                    if (!zero && dataStart < 0) {
+                        dataStart = block;
+                    } else if (zero && dataStart >= 0) {
+                        writeAt(out, buffer.slice(dataStart, block - dataStart), position + dataStart);
+                        dataStart = -1;
+                    }
+                }
+                if (dataStart >= 0) {
+                    writeAt(out, buffer.slice(dataStart, limit - dataStart), position + dataStart);
+                }
+                position += limit;
+                buffer.clear();
+                if (progress != null) {
+                    progress.addBytes(limit);
+                }
+            }
+            if (out.size() < position) {
+                // The file ends with a hole, which is not created by the skipped writes alone.
+                writeAt(out, ByteBuffer.allocate(1), position - 1);
+            }
+        }
+        copyAttributes(source, target, attrs);
+    }
+
+    private static boolean isZero(ByteBuffer buffer, int from, int to) {
+        return buffer.slice(from, to - from).mismatch(ZERO_BLOCK.slice(0, to - from)) == -1;
+    }
+
+    private static void writeAt(FileChannel out, ByteBuffer data, long position) throws IOException {
+        while (data.hasRemaining()) {
+            position += out.write(data, position);
+        }
+    }
+
+    /**
+     * Returns the attributes a target file is created with by the channel based methods. Like {@code Files.copy}, the
+     * target is created with the permissions of the source. The owner can also read and write the target, so that an
+     * interrupted copy of a read-only file can be resumed, while no other user gains access that the source does not
+     * give. The exact permissions of the source are set once the content is copied.
+     */
+    private FileAttribute<?>[] createAttributes(Path source) throws IOException {
+        PosixFileAttributeView posixView = Files.getFileAttributeView(source, PosixFileAttributeView.class,
+                linkOptions);
+        if (posixView == null) {
+            return new FileAttribute<?>[0];
+        }
+        Set<PosixFilePermission> permissions = EnumSet.copyOf(posixView.readAttributes().permissions());
+        permissions.add(PosixFilePermission.OWNER_READ);
+        permissions.add(PosixFilePermission.OWNER_WRITE);
+        return new FileAttribute<?>[]{PosixFilePermissions.asFileAttribute(permissions)};
+    }
+
+    private void copyAttributes(Path source, Path target, BasicFileAttributes attrs) throws IOException {
+        // The permissions are always carried over, as Files.copy does, and the other attributes only when requested.
+        PosixFileAttributeView posixView = Files.getFileAttributeView(source, PosixFileAttributeView.class,
+                linkOptions);
+        if (posixView != null) {
+            Files.setPosixFilePermissions(target, posixView.readAttributes().permissions());
+        }
+        if (copyAttributes) {
+            Files.setLastModifiedTime(target, attrs.lastModifiedTime());
+        }
+    }
+
+    /**
+     * Methods used to copy regular files, as defined by the `CopyMethod` enum.
+     */
+    enum Method {
+        DEFAULT,
+        TRANSFER,
+        SPARSE,
+        RESUMABLE,
+        HARD_LINK
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synchronizes written entries with the storage device in groups. The entries are collected until the configured
+ * number of entries is pending, at which point the thread that adds the last entry synchronizes the group, or until the
+ * oldest pending entry has waited for the configured delay, at which point a background thread synchronizes the
+ * group. The parent directories of the entries in a group are synchronized once per group, after the entries.
+ * <p>
+ * Each group is numbered when it is taken, so a flush waits until every group taken before it has been synchronized,
+ * including the groups still being synchronized by other threads. A failure to synchronize a group is reported only to
+ * the operations of that group that are still waiting for it, which is the operation that completed the group or the
+ * flush that took it. The other operations of a group have already returned, so a failure of a group that was not
+ * taken by a flush is also kept until the next flush, which reports it.
+ *
+ * @since 1.12.1
+ */
+final class GroupCommitter {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitter.class);
+    private static final Object LOCK = new Object();
+    private static final Set<Long> completedOutOfOrder = new HashSet<>();
+
+    private static int maxEntries = 1000;
+    private static long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    private static Set<Path> pending = new LinkedHashSet<>();
+    private static ScheduledFuture<?> scheduledFlush;
+    private static long takenGroups = 0;
+    private static long completedGroups = 0;
+    private static IOException failure;
+
+    private GroupCommitter() {
+    }
+
+    /**
+     * Sets the size and the maximum delay of the groups. The entries already pending are synchronized as configured
+     * before.
+     *
+     * @param maxEntries    number of pending entries that triggers a group commit
+     * @param maxDelayNanos maximum time an entry is pending before a group commit in nanoseconds
+     */
+    static void configure(int maxEntries, long maxDelayNanos) {
+        synchronized (LOCK) {
+            GroupCommitter.maxEntries = maxEntries;
+            GroupCommitter.maxDelayNanos = maxDelayNanos;
+        }
+    }
+
+    /**
+     * Adds an entry to the pending group, and synchronizes the group if it is full.
+     *
+     * @param path path of the written entry
+     * @throws IOException if the group is synchronized and an entry of the group cannot be synchronized
+     */
+    static void add(Path path) throws IOException {
+        Group group = null;
+        synchronized (LOCK) {
+            pending.add(path.toAbsolutePath());
+            if (pending.size() >= maxEntries) {
+                group = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = SchedulerHolder.SCHEDULER.schedule(GroupCommitter::flushPending, maxDelayNanos,
+                        TimeUnit.NANOSECONDS);
+            }
+        }
+        if (group != null) {
+            commit(group);
+        }
+    }
+
+    /**
+     * Synchronizes the pending group immediately, and waits until all the groups taken earlier are synchronized.
+     *
+     * @throws IOException if an entry of the pending group or of an earlier group cannot be synchronized
+     */
+    static void flush() throws IOException {
+        Group group;
+        synchronized (LOCK) {
+            group = takePending();
+        }
+        IOException groupFailure = null;
+        try {
+            sync(group.paths());
+        } catch (IOException e) {
+            groupFailure = e;
+        } finally {
+            complete(group);
+        }
+        synchronized (LOCK) {
+            while (completedGroups < group.number()) {
+                try {
+                    LOCK.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the group commits");
+                }
+            }
+            if (groupFailure != null) {
+                throw groupFailure;
+            }
+            if (failure != null) {
+                IOException e = failure;
+                failure = null;
+                throw new IOException("Failed to synchronize an earlier group commit: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static void flushPending() {
+        Group group;
+        synchronized (LOCK) {
+            group = takePending();
+        }
+        try {
+            commit(group);
+        } catch (IOException e) {
+            log.error("Failed to synchronize the pending group commit: " + e.getMessage(), e);
+        }
+    }
+
+    private static Group takePending() {
+        Group group = new Group(++takenGroups, pending);
+        pending = new LinkedHashSet<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return group;
+    }
+
+    /**
+     * Synchronizes a group that was not taken by a flush, keeping its failure for the next flush.
+     */
+    private static void commit(Group group) throws IOException {
+        try {
+            sync(group.paths());
+        } catch (IOException e) {
+            synchronized (LOCK) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+            throw e;
+        } finally {
+            complete(group);
+        }
+    }
+
+    private static void complete(Group group) {
+        synchronized (LOCK) {
+            // Groups may complete out of order, so the count only advances over the consecutive completed groups.
+            completedOutOfOrder.add(group.number());
+            while (completedOutOfOrder.remove(completedGroups + 1)) {
+                completedGroups++;
+            }
+            LOCK.notifyAll();
+        }
+    }
+
+    /**
+     * Synchronizes the given entries, and then their parent directories. All the entries are attempted even if some of
+     * them fail.
+     *
+     * @param paths paths of the written entries
+     * @throws IOException the first failure, if any entry cannot be synchronized
+     */
+    static void sync(Collection<Path> paths) throws IOException {
+        IOException failure = null;
+        Set<Path> parents = new LinkedHashSet<>();
+        for (Path path : paths) {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                parents.add(parent);
+            }
+            try {
+                if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                    forceDirectory(path);
+                } else {
+                    force(path);
+                }
+            } catch (IOException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        for (Path parent : parents) {
+            try {
+                forceDirectory(parent);
+            } catch (IOException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (NoSuchFileException e) {
+            // The entry was removed or renamed, and only its parent directory needs to be synchronized.
+        }
+    }
+
+    private static void forceDirectory(Path dir) throws IOException {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (AccessDeniedException | UnsupportedOperationException e) {
+            // Directories cannot be opened on some platforms, such as Windows, where directory entries are durable
+            // once the file system is flushed.
+        } catch (NoSuchFileException e) {
+            // The directory was removed.
+        }
+    }
+
+    private record Group(long number, Set<Path> paths) {
+    }
+
+    private static class SchedulerHolder {
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                    Thread thread = new Thread(runnable, "file-group-commit");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
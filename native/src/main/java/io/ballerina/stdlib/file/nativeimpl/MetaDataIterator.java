@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import io.ballerina.runtime.api.values.BError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Native counterpart of the iterator object behind the `stream<MetaData, Error?>` values of the file module.
+ * The underlying native resource is released when the stream is exhausted, when it is closed explicitly, or when
+ * the stream is abandoned and garbage collected, whichever happens first. Reading the next entry is serialized,
+ * while closing takes no lock, so a stream can be closed from another strand while a read is blocked.
+ *
+ * @since 1.12.1
+ */
+abstract class MetaDataIterator {
+    private static final Logger log = LoggerFactory.getLogger(MetaDataIterator.class);
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Cleaner.Cleanable cleanable;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    MetaDataIterator(AutoCloseable resource) {
+        this.cleanable = CLEANER.register(this, new ResourceCloser(resource));
+    }
+
+    /**
+     * Returns the next entry of the stream.
+     *
+     * @return the next `MetaData` record, a Ballerina error, or {@code null} once the stream is exhausted
+     */
+    synchronized Object next() {
+        if (closed.get()) {
+            return null;
+        }
+        Object entry = nextEntry();
+        if (entry == null || entry instanceof BError) {
+            close();
+        }
+        return entry;
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            cleanable.clean();
+        }
+    }
+
+    /**
+     * Reads the next entry from the underlying resource. Called with the iterator lock held, and the resource may be
+     * closed concurrently by {@link #close()}.
+     *
+     * @return the next `MetaData` record, a Ballerina error, or {@code null} once the resource is exhausted
+     */
+    abstract Object nextEntry();
+
+    private record ResourceCloser(AutoCloseable resource) implements Runnable {
+        @Override
+        public void run() {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                log.debug("Error while releasing the stream resource: " + e.getMessage());
+            }
+        }
+    }
+}
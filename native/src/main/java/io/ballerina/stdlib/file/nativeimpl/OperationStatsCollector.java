@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the statistics of a recursive copy or remove operation. The counters are updated as the entries are
+ * processed, possibly from several worker threads, and the elapsed time is recorded per phase of the operation.
+ *
+ * @since 1.12.1
+ */
+class OperationStatsCollector {
+
+    private final AtomicLong files = new AtomicLong();
+    private final AtomicLong dirs = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final List<Skipped> skipped = new ArrayList<>();
+    private final List<Phase> phases = new ArrayList<>();
+    private final long startNanos = System.nanoTime();
+    private long lapNanos = startNanos;
+
+    void fileProcessed(long size) {
+        files.incrementAndGet();
+        bytes.addAndGet(size);
+    }
+
+    void dirProcessed() {
+        dirs.incrementAndGet();
+    }
+
+    /**
+     * Records an entry that was skipped by the operation.
+     *
+     * @param path   path of the entry
+     * @param reason failure that caused the entry to be skipped
+     */
+    synchronized void skip(Path path, Exception reason) {
+        String message = reason.getMessage();
+        skipped.add(new Skipped(path, reason.getClass().getSimpleName() + (message != null ? ": " + message : "")));
+    }
+
+    /**
+     * Ends the current phase of the operation, which started when the previous phase ended.
+     *
+     * @param name name of the phase
+     */
+    synchronized void endPhase(String name) {
+        long now = System.nanoTime();
+        phases.add(new Phase(name, now - lapNanos));
+        lapNanos = now;
+    }
+
+    long files() {
+        return files.get();
+    }
+
+    long dirs() {
+        return dirs.get();
+    }
+
+    long bytes() {
+        return bytes.get();
+    }
+
+    synchronized List<Skipped> skipped() {
+        return List.copyOf(skipped);
+    }
+
+    synchronized List<Phase> phases() {
+        return List.copyOf(phases);
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Entry skipped by an operation.
+     *
+     * @param path   path of the entry
+     * @param reason description of the failure
+     */
+    record Skipped(Path path, String reason) {
+    }
+
+    /**
+     * Phase of an operation.
+     *
+     * @param name         name of the phase
+     * @param elapsedNanos time spent in the phase in nanoseconds
+     */
+    record Phase(String name, long elapsedNanos) {
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Copies a directory tree on a dedicated work-stealing pool. Each directory is listed by its own task, and a
+ * directory is always created before the tasks that copy its entries are forked. The files of a directory are copied
+ * in batches, so the files of large directories are also copied in parallel. The copy continues past failed entries,
+ * and the failures are reported together once the whole tree has been processed, or are recorded as skipped entries
+ * when the copier collects statistics. Like the sequential copy, symbolic links are not descended into and are copied
+ * as files.
+ *
+ * @since 1.12.1
+ */
+final class ParallelTreeCopy {
+
+    private static final int FILE_BATCH_SIZE = 32;
+
+    private ParallelTreeCopy() {
+    }
+
+    /**
+     * Copies the given directory tree.
+     *
+     * @param source      source directory
+     * @param target      target directory, which is created if it does not exist
+     * @param copier      copier of the files of the tree
+     * @param parallelism number of worker threads
+     * @throws IOException the failure of the copy, which is the first failure itself if only one entry failed, unless
+     *                     the failed entries are recorded as skipped by the copier
+     */
+    static void copy(Path source, Path target, FileCopier copier, int parallelism) throws IOException {
+        copier.createDirectory(target);
+        CopyState state = new CopyState(copier);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new DirectoryCopyTask(state, source, target));
+        } finally {
+            pool.shutdown();
+        }
+        state.rethrow();
+    }
+
+    /**
+     * State shared by the tasks of a copy.
+     */
+    private static class CopyState extends FailureCollector {
+        private final FileCopier copier;
+
+        CopyState(FileCopier copier) {
+            this.copier = copier;
+        }
+
+        void fail(Path source, IOException e) {
+            if (copier.recordsSkipped()) {
+                copier.skipped(source, e);
+            } else {
+                fail(e);
+            }
+        }
+    }
+
+    private static class DirectoryCopyTask extends RecursiveAction {
+        private final transient CopyState state;
+        private final transient Path source;
+        private final transient Path target;
+
+        DirectoryCopyTask(CopyState state, Path source, Path target) {
+            this.state = state;
+            this.source = source;
+            this.target = target;
+        }
+
+        @Override
+        protected void compute() {
+            List<ForkJoinTask<?>> subTasks = new ArrayList<>();
+            List<Path> files = new ArrayList<>(FILE_BATCH_SIZE);
+            try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(source)) {
+                for (Path entry : dirStream) {
+                    BasicFileAttributes attrs;
+                    try {
+                        attrs = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    } catch (NoSuchFileException e) {
+                        // The entry was removed after it was listed.
+                        continue;
+                    } catch (IOException e) {
+                        state.fail(entry, e);
+                        continue;
+                    }
+                    if (attrs.isDirectory()) {
+                        Path targetDir = target.resolve(entry.getFileName());
+                        try {
+                            state.copier.createDirectory(targetDir);
+                        } catch (IOException e) {
+                            state.fail(entry, e);
+                            continue;
+                        }
+                        subTasks.add(new DirectoryCopyTask(state, entry, targetDir).fork());
+                    } else {
+                        files.add(entry);
+                        if (files.size() == FILE_BATCH_SIZE) {
+                            subTasks.add(new FileCopyTask(state, files, target).fork());
+                            files = new ArrayList<>(FILE_BATCH_SIZE);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                state.fail(source, e);
+            } catch (DirectoryIteratorException e) {
+                state.fail(source, e.getCause());
+            }
+            FileCopyTask.copyFiles(state, files, target);
+            for (ForkJoinTask<?> subTask : subTasks) {
+                subTask.join();
+            }
+        }
+    }
+
+    private static class FileCopyTask extends RecursiveAction {
+        private final transient CopyState state;
+        private final transient List<Path> files;
+        private final transient Path targetDir;
+
+        FileCopyTask(CopyState state, List<Path> files, Path targetDir) {
+            this.state = state;
+            this.files = files;
+            this.targetDir = targetDir;
+        }
+
+        @Override
+        protected void compute() {
+            copyFiles(state, files, targetDir);
+        }
+
+        static void copyFiles(CopyState state, List<Path> files, Path targetDir) {
+            for (Path file : files) {
+                try {
+                    state.copier.copy(file, targetDir.resolve(file.getFileName()));
+                } catch (IOException e) {
+                    state.fail(file, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Removes a directory tree on a dedicated work-stealing pool. Each directory is listed by its own task, and the files
+ * of a directory are removed in batches, so the files of different subtrees and of large directories are removed in
+ * parallel. A directory is removed once the tasks of its entries have completed, so the tree is removed bottom-up. The
+ * removal continues past failed entries, leaving their parent directories in place, and the failures are reported
+ * together once the whole tree has been processed. Like the sequential removal, symbolic links are removed rather than
+ * descended into.
+ *
+ * @since 1.12.1
+ */
+final class ParallelTreeRemove {
+
+    private static final int FILE_BATCH_SIZE = 32;
+
+    private ParallelTreeRemove() {
+    }
+
+    /**
+     * Removes the given directory tree.
+     *
+     * @param root        directory to remove
+     * @param parallelism number of worker threads
+     * @param stats       statistics updated by the removal, or {@code null} if the statistics are not collected
+     * @throws IOException the failure of the removal, which is the first failure itself if only one entry failed
+     */
+    static void remove(Path root, int parallelism, OperationStatsCollector stats) throws IOException {
+        RemoveState state = new RemoveState(stats);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new DirectoryRemoveTask(state, root));
+        } finally {
+            pool.shutdown();
+        }
+        state.rethrow();
+    }
+
+    /**
+     * State shared by the tasks of a removal.
+     */
+    private static class RemoveState extends FailureCollector {
+        private final OperationStatsCollector stats;
+
+        RemoveState(OperationStatsCollector stats) {
+            this.stats = stats;
+        }
+    }
+
+    /**
+     * Removes a directory and its entries, and returns whether the directory was removed.
+     */
+    private static class DirectoryRemoveTask extends RecursiveTask<Boolean> {
+        private final transient RemoveState state;
+        private final transient Path dir;
+
+        DirectoryRemoveTask(RemoveState state, Path dir) {
+            this.state = state;
+            this.dir = dir;
+        }
+
+        @Override
+        protected Boolean compute() {
+            List<ForkJoinTask<Boolean>> subTasks = new ArrayList<>();
+            List<Path> files = new ArrayList<>(FILE_BATCH_SIZE);
+            boolean removable = true;
+            try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(dir)) {
+                for (Path entry : dirStream) {
+                    BasicFileAttributes attrs;
+                    try {
+                        attrs = DirectoryHandles.readAttributes(dirStream, entry, LinkOption.NOFOLLOW_LINKS);
+                    } catch (NoSuchFileException e) {
+                        // The entry was removed after it was listed.
+                        continue;
+                    }
+                    if (attrs.isDirectory()) {
+                        subTasks.add(new DirectoryRemoveTask(state, entry).fork());
+                    } else {
+                        files.add(entry);
+                        if (files.size() == FILE_BATCH_SIZE) {
+                            subTasks.add(new FileRemoveTask(state, files).fork());
+                            files = new ArrayList<>(FILE_BATCH_SIZE);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                state.fail(e);
+                removable = false;
+            } catch (DirectoryIteratorException e) {
+                state.fail(e.getCause());
+                removable = false;
+            }
+            removable &= FileRemoveTask.removeFiles(state, files);
+            for (ForkJoinTask<Boolean> subTask : subTasks) {
+                removable &= subTask.join();
+            }
+            if (!removable) {
+                // The directory still has the entries that failed.
+                return false;
+            }
+            try {
+                Files.delete(dir);
+                if (state.stats != null) {
+                    state.stats.dirProcessed();
+                }
+                return true;
+            } catch (IOException e) {
+                state.fail(e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Removes a batch of files, and returns whether all of them were removed.
+     */
+    private static class FileRemoveTask extends RecursiveTask<Boolean> {
+        private final transient RemoveState state;
+        private final transient List<Path> files;
+
+        FileRemoveTask(RemoveState state, List<Path> files) {
+            this.state = state;
+            this.files = files;
+        }
+
+        @Override
+        protected Boolean compute() {
+            return removeFiles(state, files);
+        }
+
+        static boolean removeFiles(RemoveState state, List<Path> files) {
+            boolean removed = true;
+            for (Path file : files) {
+                try {
+                    long size = state.stats != null ?
+                            Files.readAttributes(file, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).size() : 0;
+                    Files.delete(file);
+                    if (state.stats != null) {
+                        state.stats.fileProcessed(size);
+                    }
+                } catch (NoSuchFileException e) {
+                    // The file was removed after it was listed.
+                } catch (IOException e) {
+                    state.fail(e);
+                    removed = false;
+                }
+            }
+            return removed;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+
+/**
+ * Deletes the files of a directory tree by their age, name and total size. The rules are evaluated against the
+ * attributes read by the walker, and the expired files are deleted as they are visited. The files kept by the age rule
+ * are collected only when there is a size limit, and the oldest of them are deleted once the walk completes until
+ * their total size is within the limit.
+ *
+ * @since 1.12.1
+ */
+class PurgeVisitor extends SimpleFileVisitor<Path> {
+
+    private final PathMatcher matcher;
+    private final long modifiedBefore;
+    private final long maxBytes;
+    private final OperationStatsCollector stats;
+    private final List<Candidate> kept = new ArrayList<>();
+    private long keptBytes = 0;
+    private long filesScanned = 0;
+
+    /**
+     * Creates a visitor to purge the files matching the given rules.
+     *
+     * @param matcher        matcher of the names of the files to purge, or null to match all the files
+     * @param modifiedBefore the files modified before this time (in milliseconds since the epoch) are deleted, or
+     *                       -1 if the files are not deleted by their age
+     * @param maxBytes       maximum total size of the matching files to keep, or -1 if there is no size limit
+     * @param stats          collector of the deleted and skipped files
+     */
+    PurgeVisitor(PathMatcher matcher, long modifiedBefore, long maxBytes, OperationStatsCollector stats) {
+        this.matcher = matcher;
+        this.modifiedBefore = modifiedBefore;
+        this.maxBytes = maxBytes;
+        this.stats = stats;
+    }
+
+    @Override
+    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+        // Directories are visited as files at the maximum depth of a non-recursive purge.
+        if (attrs.isDirectory()) {
+            return CONTINUE;
+        }
+        filesScanned++;
+        if (matcher != null && !matcher.matches(file.getFileName())) {
+            return CONTINUE;
+        }
+        long modified = attrs.lastModifiedTime().toMillis();
+        if (modified < modifiedBefore) {
+            delete(file, attrs.size());
+        } else if (maxBytes >= 0) {
+            kept.add(new Candidate(file, attrs.size(), modified));
+            keptBytes += attrs.size();
+        }
+        return CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+        if (!(exc instanceof NoSuchFileException)) {
+            stats.skip(file, exc);
+        }
+        return CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+        if (exc != null) {
+            stats.skip(dir, exc);
+        }
+        return CONTINUE;
+    }
+
+    /**
+     * Deletes the oldest of the kept files until their total size is within the size limit.
+     */
+    void applySizeLimit() {
+        if (maxBytes < 0 || keptBytes <= maxBytes) {
+            return;
+        }
+        kept.sort(Comparator.comparingLong(Candidate::modified).thenComparing(Candidate::path));
+        for (Candidate candidate : kept) {
+            if (keptBytes <= maxBytes) {
+                break;
+            }
+            if (delete(candidate.path(), candidate.size())) {
+                keptBytes -= candidate.size();
+            }
+        }
+    }
+
+    private boolean delete(Path file, long size) {
+        try {
+            Files.delete(file);
+            stats.fileProcessed(size);
+            return true;
+        } catch (NoSuchFileException e) {
+            // The file was removed after it was listed, so it no longer takes any space.
+            return true;
+        } catch (IOException | SecurityException e) {
+            stats.skip(file, e);
+            return false;
+        }
+    }
+
+    long filesScanned() {
+        return filesScanned;
+    }
+
+    private record Candidate(Path path, long size, long modified) {
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileAttribute;
+import java.util.Properties;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/**
+ * Copies a regular file so that an interrupted copy can be resumed. After each chunk, a checkpoint with the number of
+ * bytes copied and the CRC-32C checksum of those bytes is saved next to the target. When the copy is started again,
+ * the copied prefix of the target is verified against the checkpoint and the copy continues after it. If the source
+ * has changed since the checkpoint was saved, or the prefix does not match, the copy starts again from the beginning.
+ *
+ * @since 1.12.1
+ */
+final class ResumableCopy {
+
+    static final String CHECKPOINT_SUFFIX = ".checkpoint";
+    private static final String SIZE = "size";
+    private static final String MODIFIED_TIME = "modifiedTime";
+    private static final String OFFSET = "offset";
+    private static final String CHECKSUM = "crc32c";
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private ResumableCopy() {
+    }
+
+    /**
+     * Copies the given file, resuming a previous copy if there is a valid checkpoint.
+     *
+     * @param source          source file
+     * @param target          target file
+     * @param attrs           attributes of the source
+     * @param chunkSize       number of bytes copied between checkpoints
+     * @param replaceExisting whether an existing target without a checkpoint is replaced
+     * @param progress        progress updated by the copy, or {@code null} if the progress is not tracked
+     * @param createAttrs     attributes the target is created with, if it does not exist
+     * @throws IOException if the copy fails
+     */
+    static void copy(Path source, Path target, BasicFileAttributes attrs, long chunkSize, boolean replaceExisting,
+                     CopyProgressCounter progress, FileAttribute<?>... createAttrs) throws IOException {
+        Path checkpoint = checkpointOf(target);
+        boolean resuming = Files.exists(checkpoint);
+        if (!resuming && Files.exists(target)) {
+            if (!replaceExisting) {
+                throw new FileAlreadyExistsException(target.toString());
+            }
+            // Replaces the target itself as Files.copy does, rather than writing through a link at the target.
+            Files.delete(target);
+        }
+        IOException truncated = null;
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, Set.of(StandardOpenOption.READ, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE), createAttrs)) {
+            long size = in.size();
+            if (!resuming && size > chunkSize) {
+                // Lets a copy interrupted before its first checkpoint resume rather than fail on the existing target.
+                saveCheckpoint(checkpoint, attrs, 0, 0);
+            }
+            CRC32C checksum = new CRC32C();
+            long offset = resuming ? verifiedOffset(checkpoint, attrs, out, checksum) : 0;
+            out.truncate(offset);
+            if (progress != null) {
+                progress.addBytes(offset);
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.min(chunkSize, BUFFER_SIZE));
+            long checkpointOffset = offset;
+            while (offset < size) {
+                int read = in.read(buffer, offset);
+                if (read == -1) {
+                    truncated = FileCopier.truncatedSource(source, size, in.size());
+                    break;
+                }
+                buffer.flip();
+                checksum.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer, offset + buffer.position());
+                }
+                buffer.clear();
+                offset += read;
+                if (progress != null) {
+                    progress.addBytes(read);
+                }
+                if (offset - checkpointOffset >= chunkSize && offset < size) {
+                    saveCheckpoint(checkpoint, attrs, offset, checksum.getValue());
+                    checkpointOffset = offset;
+                }
+            }
+        }
+        if (truncated != null) {
+            // A checkpoint records the previous size of the source, so the next attempt starts over. Without a
+            // checkpoint, the partial target is removed so that it is not taken for a complete copy.
+            if (Files.notExists(checkpoint)) {
+                Files.deleteIfExists(target);
+            }
+            throw truncated;
+        }
+        Files.deleteIfExists(checkpoint);
+    }
+
+    static Path checkpointOf(Path target) {
+        return target.resolveSibling(target.getFileName() + CHECKPOINT_SUFFIX);
+    }
+
+    /**
+     * Returns the offset at which an interrupted copy can be resumed, after verifying the copied prefix of the target.
+     * The checksum is updated with the verified prefix.
+     */
+    private static long verifiedOffset(Path checkpoint, BasicFileAttributes attrs, FileChannel out, CRC32C checksum)
+            throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(checkpoint)) {
+            properties.load(in);
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+        long offset;
+        try {
+            if (Long.parseLong(properties.getProperty(SIZE)) != attrs.size() ||
+                    Long.parseLong(properties.getProperty(MODIFIED_TIME)) != attrs.lastModifiedTime().toMillis()) {
+                return 0;
+            }
+            offset = Long.parseLong(properties.getProperty(OFFSET));
+            if (offset < 0 || offset > out.size()) {
+                return 0;
+            }
+            long expected = Long.parseLong(properties.getProperty(CHECKSUM));
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            long position = 0;
+            while (position < offset) {
+                buffer.limit((int) Math.min(BUFFER_SIZE, offset - position));
+                int read = out.read(buffer, position);
+                if (read == -1) {
+                    break;
+                }
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+                position += read;
+            }
+            if (position == offset && checksum.getValue() == expected) {
+                return offset;
+            }
+        } catch (NumberFormatException e) {
+            // The checkpoint is corrupted.
+        }
+        checksum.reset();
+        return 0;
+    }
+
+    private static void saveCheckpoint(Path checkpoint, BasicFileAttributes attrs, long offset, long checksum)
+            throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(SIZE, Long.toString(attrs.size()));
+        properties.setProperty(MODIFIED_TIME, Long.toString(attrs.lastModifiedTime().toMillis()));
+        properties.setProperty(OFFSET, Long.toString(offset));
+        properties.setProperty(CHECKSUM, Long.toString(checksum));
+        // The checkpoint is replaced atomically, so that an interrupted save does not leave a partial checkpoint.
+        Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, null);
+        }
+        Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
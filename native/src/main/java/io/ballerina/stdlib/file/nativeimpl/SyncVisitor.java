@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import io.ballerina.stdlib.file.utils.FileConstants;
+
+import java.io.IOException;
+import java.nio.file.CopyOption;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+
+/**
+ * Synchronizes a target tree with a source tree. Files whose size and last modified time match the target are
+ * skipped, and optionally their content is compared as well. Copied files keep the last modified time of the source,
+ * so they are skipped by the next synchronization. Symbolic links of the source are copied as links, and a link is
+ * skipped when the target has a link to the same path. Entries of the target that do not exist in the source are
+ * optionally deleted.
+ *
+ * @since 1.12.1
+ */
+class SyncVisitor extends SimpleFileVisitor<Path> {
+
+    private static final CopyOption[] COPY_OPTIONS = {StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.COPY_ATTRIBUTES};
+    private static final CopyOption[] LINK_COPY_OPTIONS = {StandardCopyOption.REPLACE_EXISTING,
+            LinkOption.NOFOLLOW_LINKS};
+
+    private final Path source;
+    private final Path target;
+    private final boolean compareContent;
+    private final boolean delete;
+    private final FileCopier copier = FileCopier.of(COPY_OPTIONS);
+    private long filesCopied = 0;
+    private long bytesCopied = 0;
+    private long filesSkipped = 0;
+    private long bytesSkipped = 0;
+    private long filesDeleted = 0;
+    private long dirsDeleted = 0;
+    private long bytesDeleted = 0;
+
+    /**
+     * Creates a visitor to synchronize the given target with the given source.
+     *
+     * @param source         source file or directory
+     * @param target         target file or directory
+     * @param compareContent whether the content of files with matching size is compared, instead of their last
+     *                       modified time
+     * @param delete         whether the entries of the target that do not exist in the source are deleted
+     */
+    SyncVisitor(Path source, Path target, boolean compareContent, boolean delete) {
+        this.source = source;
+        this.target = target;
+        this.compareContent = compareContent;
+        this.delete = delete;
+    }
+
+    @Override
+    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+        Path targetDir = target.resolve(source.relativize(dir));
+        if (delete && Files.exists(targetDir, LinkOption.NOFOLLOW_LINKS) &&
+                !Files.isDirectory(targetDir, LinkOption.NOFOLLOW_LINKS)) {
+            deleteTree(targetDir);
+        }
+        if (!Files.exists(targetDir)) {
+            Files.createDirectory(targetDir);
+        }
+        return CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+        Path targetFile = target.resolve(source.relativize(file));
+        BasicFileAttributes targetAttrs = readAttributes(targetFile);
+        if (targetAttrs != null && targetAttrs.isDirectory() && delete) {
+            deleteTree(targetFile);
+            targetAttrs = null;
+        }
+        if (attrs.isSymbolicLink()) {
+            return syncLink(file, targetFile, targetAttrs);
+        }
+        if (targetAttrs != null && isUnchanged(file, attrs, targetFile, targetAttrs)) {
+            filesSkipped++;
+            bytesSkipped += attrs.size();
+            return CONTINUE;
+        }
+        copier.copy(file, targetFile);
+        filesCopied++;
+        bytesCopied += attrs.size();
+        return CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+        if (exc != null) {
+            throw exc;
+        }
+        if (delete) {
+            Path targetDir = target.resolve(source.relativize(dir));
+            try (DirectoryStream<Path> targetEntries = Files.newDirectoryStream(targetDir)) {
+                for (Path targetEntry : targetEntries) {
+                    Path sourceEntry = dir.resolve(targetEntry.getFileName());
+                    if (!Files.exists(sourceEntry, LinkOption.NOFOLLOW_LINKS)) {
+                        deleteTree(targetEntry);
+                    }
+                }
+            }
+        }
+        return CONTINUE;
+    }
+
+    /**
+     * Synchronizes a symbolic link, which is compared by the path it points to rather than by its own size and last
+     * modified time, as the time of a copied link is not kept. A link has no content, so it adds no bytes to the
+     * summary.
+     */
+    private FileVisitResult syncLink(Path link, Path targetLink, BasicFileAttributes targetAttrs) throws IOException {
+        if (targetAttrs != null && targetAttrs.isSymbolicLink() &&
+                Files.readSymbolicLink(link).equals(Files.readSymbolicLink(targetLink))) {
+            filesSkipped++;
+            return CONTINUE;
+        }
+        Files.copy(link, targetLink, LINK_COPY_OPTIONS);
+        filesCopied++;
+        return CONTINUE;
+    }
+
+    private boolean isUnchanged(Path file, BasicFileAttributes attrs, Path targetFile,
+                                BasicFileAttributes targetAttrs) throws IOException {
+        if (!targetAttrs.isRegularFile() || attrs.size() != targetAttrs.size()) {
+            return false;
+        }
+        if (compareContent) {
+            return ContentDigest.compute(FileConstants.CHECKSUM_SHA_256, file)
+                    .equals(ContentDigest.compute(FileConstants.CHECKSUM_SHA_256, targetFile));
+        }
+        return attrs.lastModifiedTime().toMillis() == targetAttrs.lastModifiedTime().toMillis();
+    }
+
+    private void deleteTree(Path path) throws IOException {
+        Files.walkFileTree(path, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                filesDeleted++;
+                bytesDeleted += attrs.size();
+                return CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                if (exc != null) {
+                    throw exc;
+                }
+                Files.delete(dir);
+                dirsDeleted++;
+                return CONTINUE;
+            }
+        });
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) throws IOException {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    long filesCopied() {
+        return filesCopied;
+    }
+
+    long bytesCopied() {
+        return bytesCopied;
+    }
+
+    long filesSkipped() {
+        return filesSkipped;
+    }
+
+    long bytesSkipped() {
+        return bytesSkipped;
+    }
+
+    long filesDeleted() {
+        return filesDeleted;
+    }
+
+    long dirsDeleted() {
+        return dirsDeleted;
+    }
+
+    long bytesDeleted() {
+        return bytesDeleted;
+    }
+}
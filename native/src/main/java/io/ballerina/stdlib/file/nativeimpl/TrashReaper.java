@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+
+/**
+ * Removes files and directories in the background. An entry is first moved atomically into a hidden trash directory
+ * next to it, which is on the same file system, so the entry disappears from its path at once. A single background
+ * thread then deletes the contents of the trash, pausing after each configured batch of deletions so that it does not
+ * saturate the storage device. The thread asks for the minimum priority, but the JVM does not apply thread priorities
+ * on Linux by default, so the pauses are what leave the storage device to the program there. The trash directories
+ * are recorded in a registry file, which is kept in a directory of the temporary directory of the system that only the
+ * current user can access, and the trash left by a previous run of the program is deleted once an entry is first moved
+ * to the trash. Only the registered directories that are named as trash directories and are owned by the current user
+ * are deleted.
+ *
+ * @since 1.12.1
+ */
+final class TrashReaper {
+
+    static final String TRASH_DIR_NAME = ".ballerina-trash";
+    private static final Logger log = LoggerFactory.getLogger(TrashReaper.class);
+    private static final String REGISTRY_DIR_PREFIX = "ballerina-file-trash-";
+    private static final String REGISTRY_FILE_NAME = "registry";
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIR = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+    private static final Object LOCK = new Object();
+    private static final Set<Path> registeredTrashDirs = new HashSet<>();
+
+    private static volatile int deleteBatchSize = 512;
+    private static volatile long batchPauseNanos = TimeUnit.MILLISECONDS.toNanos(5);
+    private static boolean resumed = false;
+
+    private TrashReaper() {
+    }
+
+    /**
+     * Sets the number of entries deleted between two pauses and the length of the pauses. The deletions already in
+     * progress continue with the previous configuration.
+     *
+     * @param deleteBatchSize number of entries deleted between two pauses
+     * @param batchPauseNanos length of a pause in nanoseconds, or 0 to delete without pausing
+     */
+    static void configure(int deleteBatchSize, long batchPauseNanos) {
+        TrashReaper.deleteBatchSize = deleteBatchSize;
+        TrashReaper.batchPauseNanos = batchPauseNanos;
+    }
+
+    /**
+     * Moves the given entry into the trash directory of its parent, and schedules its deletion.
+     *
+     * @param path file or directory to remove
+     * @throws AtomicMoveNotSupportedException if the entry cannot be moved atomically into the trash, such as when it
+     *                                         is on a different file system than its parent directory
+     * @throws IOException                     if the entry cannot be moved into the trash
+     */
+    static void moveToTrash(Path path) throws IOException {
+        Path entry = path.toAbsolutePath().normalize();
+        Path parent = entry.getParent();
+        if (parent == null) {
+            throw new IOException("Cannot move the root directory to the trash: " + entry);
+        }
+        Path trashDir = parent.resolve(TRASH_DIR_NAME);
+        Path trashEntry = trashDir.resolve(UUID.randomUUID().toString());
+        if (!Files.isSymbolicLink(entry) && !Files.getFileStore(entry).equals(Files.getFileStore(parent))) {
+            throw new AtomicMoveNotSupportedException(entry.toString(), trashEntry.toString(),
+                    "The entry is on a different file system than its parent directory");
+        }
+        synchronized (LOCK) {
+            if (!resumed) {
+                resumed = true;
+                resume();
+            }
+            Files.createDirectories(trashDir);
+            register(trashDir);
+            Files.move(entry, trashEntry, StandardCopyOption.ATOMIC_MOVE);
+        }
+        ReaperHolder.REAPER.execute(() -> reap(trashEntry));
+    }
+
+    /**
+     * Schedules the deletion of the trash left by previous runs of the program, if there is any.
+     */
+    private static void resume() {
+        Path registryDir = registryDir();
+        if (Files.exists(registryDir.resolve(REGISTRY_FILE_NAME), LinkOption.NOFOLLOW_LINKS)) {
+            ReaperHolder.REAPER.execute(TrashReaper::resumeRegisteredTrash);
+        }
+    }
+
+    private static void resumeRegisteredTrash() {
+        Set<Path> trashDirs = new LinkedHashSet<>();
+        synchronized (LOCK) {
+            try {
+                Path registry = openRegistry();
+                UserPrincipal user = Files.getOwner(registry.getParent(), LinkOption.NOFOLLOW_LINKS);
+                for (String line : Files.readAllLines(registry, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    Path trashDir = Paths.get(line.trim());
+                    if (isTrashDir(trashDir, user)) {
+                        trashDirs.add(trashDir);
+                    } else if (Files.exists(trashDir, LinkOption.NOFOLLOW_LINKS)) {
+                        log.warn("Ignoring the trash registry entry " + trashDir + ", which is not a trash directory "
+                                + "owned by the current user");
+                    }
+                }
+                trashDirs.addAll(registeredTrashDirs);
+                // Drops the trash directories that no longer exist from the registry.
+                Path temp = registry.resolveSibling(REGISTRY_FILE_NAME + "." + UUID.randomUUID());
+                Files.createFile(temp, ownerOnly(temp, OWNER_ONLY_FILE));
+                Files.write(temp, trashDirs.stream().map(Path::toString).toList(), StandardCharsets.UTF_8);
+                Files.move(temp, registry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                registeredTrashDirs.addAll(trashDirs);
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to read the trash registry in " + registryDir() + ": " + e.getMessage(), e);
+                return;
+            }
+        }
+        for (Path trashDir : trashDirs) {
+            List<Path> entries = new ArrayList<>();
+            try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(trashDir)) {
+                dirStream.forEach(entries::add);
+            } catch (IOException e) {
+                log.error("Failed to read the trash directory " + trashDir + ": " + e.getMessage(), e);
+                continue;
+            }
+            entries.forEach(TrashReaper::reap);
+            if (entries.isEmpty()) {
+                removeIfEmpty(trashDir);
+            }
+        }
+    }
+
+    private static boolean isTrashDir(Path trashDir, UserPrincipal user) throws IOException {
+        if (!trashDir.isAbsolute() || trashDir.getFileName() == null ||
+                !TRASH_DIR_NAME.equals(trashDir.getFileName().toString()) ||
+                !Files.isDirectory(trashDir, LinkOption.NOFOLLOW_LINKS)) {
+            return false;
+        }
+        return user.equals(Files.getOwner(trashDir, LinkOption.NOFOLLOW_LINKS));
+    }
+
+    private static void register(Path trashDir) {
+        if (registeredTrashDirs.contains(trashDir)) {
+            return;
+        }
+        try {
+            Files.writeString(openRegistry(), trashDir + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.APPEND);
+            registeredTrashDirs.add(trashDir);
+        } catch (IOException e) {
+            // The trash is still deleted by this run of the program, but it is not resumed by later runs.
+            log.warn("Failed to register the trash directory " + trashDir + ": " + e.getMessage());
+        }
+    }
+
+    private static Path registryDir() {
+        String user = System.getProperty("user.name", "").replaceAll("[^A-Za-z0-9._-]", "_");
+        return Paths.get(System.getProperty("java.io.tmpdir"), REGISTRY_DIR_PREFIX + user);
+    }
+
+    /**
+     * Returns the registry file, creating it and its directory with owner-only permissions if they do not exist. The
+     * registry is refused if its directory is not a directory owned by the current user and accessible only by them,
+     * as another user could otherwise list arbitrary directories in it.
+     *
+     * @return the registry file
+     * @throws IOException if the registry cannot be created or is not secure
+     */
+    private static Path openRegistry() throws IOException {
+        Path registryDir = registryDir();
+        try {
+            Files.createDirectory(registryDir, ownerOnly(registryDir, OWNER_ONLY_DIR));
+        } catch (FileAlreadyExistsException e) {
+            // The directory is verified below.
+        }
+        if (!Files.isDirectory(registryDir, LinkOption.NOFOLLOW_LINKS)) {
+            throw new IOException("The trash registry " + registryDir + " is not a directory");
+        }
+        Path registry = registryDir.resolve(REGISTRY_FILE_NAME);
+        try {
+            Files.createFile(registry, ownerOnly(registry, OWNER_ONLY_FILE));
+        } catch (FileAlreadyExistsException e) {
+            // The registry is verified below.
+        }
+        UserPrincipal user = currentUser(registryDir);
+        for (Path path : List.of(registryDir, registry)) {
+            if (!user.equals(Files.getOwner(path, LinkOption.NOFOLLOW_LINKS))) {
+                throw new IOException("The trash registry " + path + " is not owned by the current user");
+            }
+        }
+        if (Files.getFileAttributeView(registryDir, PosixFileAttributeView.class) != null) {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(registryDir,
+                    LinkOption.NOFOLLOW_LINKS);
+            if (!OWNER_ONLY_DIR.containsAll(permissions) || Files.isSymbolicLink(registry) ||
+                    !OWNER_ONLY_FILE.containsAll(Files.getPosixFilePermissions(registry, LinkOption.NOFOLLOW_LINKS))) {
+                throw new IOException("The trash registry " + registryDir + " is accessible by other users");
+            }
+        }
+        return registry;
+    }
+
+    private static UserPrincipal currentUser(Path dir) throws IOException {
+        // The owner of a newly created file is the user the program runs as, which does not depend on the user name
+        // being resolvable.
+        Path probe = Files.createTempFile(dir.getParent(), REGISTRY_DIR_PREFIX, ".owner");
+        try {
+            return Files.getOwner(probe);
+        } finally {
+            Files.deleteIfExists(probe);
+        }
+    }
+
+    private static FileAttribute<?>[] ownerOnly(Path path, Set<PosixFilePermission> permissions) {
+        if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return new FileAttribute<?>[]{PosixFilePermissions.asFileAttribute(permissions)};
+        }
+        return new FileAttribute<?>[0];
+    }
+
+    private static void reap(Path trashEntry) {
+        try {
+            Files.walkFileTree(trashEntry, new PacedDeleteVisitor());
+        } catch (NoSuchFileException e) {
+            // The entry was already deleted, such as by another run of the program.
+        } catch (IOException e) {
+            log.error("Failed to delete " + trashEntry + " from the trash: " + e.getMessage(), e);
+            return;
+        }
+        removeIfEmpty(trashEntry.getParent());
+    }
+
+    private static void removeIfEmpty(Path trashDir) {
+        synchronized (LOCK) {
+            try {
+                Files.deleteIfExists(trashDir);
+            } catch (DirectoryNotEmptyException e) {
+                // Other entries are still to be deleted, and the last of them removes the trash directory.
+            } catch (IOException e) {
+                log.debug("Failed to remove the trash directory " + trashDir + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Deletes a tree, pausing after each batch of deletions.
+     */
+    private static class PacedDeleteVisitor extends SimpleFileVisitor<Path> {
+        private final int batchSize = deleteBatchSize;
+        private final long pauseNanos = batchPauseNanos;
+        private int deleted = 0;
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+            delete(file);
+            return CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+            if (exc != null) {
+                throw exc;
+            }
+            delete(dir);
+            return CONTINUE;
+        }
+
+        private void delete(Path path) throws IOException {
+            Files.delete(path);
+            if (++deleted % batchSize == 0 && pauseNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(pauseNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Trash deletion interrupted", e);
+                }
+            }
+        }
+    }
+
+    private static class ReaperHolder {
+        private static final ExecutorService REAPER = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "file-trash-reaper");
+            thread.setDaemon(true);
+            // Only a hint, which is ignored on Linux unless the JVM is started with -XX:ThreadPriorityPolicy=1 by root.
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+}
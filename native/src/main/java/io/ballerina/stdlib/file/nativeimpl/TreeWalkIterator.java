@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import io.ballerina.stdlib.file.utils.FileConstants;
+import io.ballerina.stdlib.file.utils.FileUtils;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walks a directory tree in parallel on the shared fork-join pool and streams the matching entries back to the
+ * consumer. Each directory is listed by its own task, so subtrees are walked concurrently. The filter is applied to
+ * the attributes read by the walker, so no `MetaData` value is created for entries that are filtered out. Like the
+ * disk usage computation, the entries and subdirectories that cannot be read due to their permissions are skipped
+ * instead of failing the walk, while the other failures and an unreadable root directory end the walk with an error.
+ * The entries are handed over through a bounded queue, which keeps the memory usage of the walk bounded when the
+ * consumer is slower than the walkers. A walker waiting for space in the queue is a managed blocker, so the pool
+ * compensates for it and a slow or abandoned consumer does not starve the other users of the pool.
+ *
+ * @since 1.12.1
+ */
+class TreeWalkIterator extends MetaDataIterator {
+
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final Object END = new Object();
+
+    private final WalkState state;
+
+    private TreeWalkIterator(WalkState state) {
+        super(state);
+        this.state = state;
+    }
+
+    /**
+     * Starts walking the given directory.
+     *
+     * @param root     directory to walk
+     * @param maxDepth maximum number of directory levels to walk, where 1 returns only the direct entries of root
+     * @param filter   filter applied to the entries
+     * @return iterator over the matching entries
+     */
+    static TreeWalkIterator start(Path root, int maxDepth, EntryFilter filter) {
+        WalkState state = new WalkState(filter, maxDepth);
+        WorkerPools.forkJoinPool().execute(ForkJoinTask.adapt(() -> {
+            try {
+                new DirectoryWalkTask(state, root, 1).invoke();
+            } catch (RuntimeException e) {
+                state.publish(e);
+            } finally {
+                state.publish(END);
+            }
+        }));
+        return new TreeWalkIterator(state);
+    }
+
+    @Override
+    Object nextEntry() {
+        Object item;
+        try {
+            item = state.queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, "Directory walk interrupted");
+        }
+        if (state.cancelled) {
+            return null;
+        }
+        if (item instanceof WalkEntry entry) {
+            return FileUtils.getMetaData(entry.path(), entry.attrs());
+        } else if (item instanceof AccessDeniedException || item instanceof SecurityException) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, (Throwable) item);
+        } else if (item instanceof Throwable e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
+        }
+        return null;
+    }
+
+    private record WalkEntry(Path path, BasicFileAttributes attrs) {
+    }
+
+    /**
+     * State shared between the walker tasks and the consumer. This is the resource released when the stream is
+     * closed or abandoned, and it does not refer back to the iterator.
+     */
+    private static class WalkState implements AutoCloseable {
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final EntryFilter filter;
+        private final int maxDepth;
+        private volatile boolean cancelled = false;
+        private volatile boolean failed = false;
+
+        WalkState(EntryFilter filter, int maxDepth) {
+            this.filter = filter;
+            this.maxDepth = maxDepth;
+        }
+
+        boolean isStopped() {
+            return cancelled || failed;
+        }
+
+        void publish(Object item) {
+            if (item instanceof Throwable) {
+                if (failed) {
+                    return;
+                }
+                failed = true;
+            }
+            if (cancelled || queue.offer(item)) {
+                return;
+            }
+            try {
+                ForkJoinPool.managedBlock(new Publisher(item));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Cancels the walk. The queue is drained and the end marker is put so that a consumer blocked on the queue
+         * wakes up; if a walker refills the queue first, the consumer wakes up on that item and sees the cancellation.
+         */
+        @Override
+        public void close() {
+            cancelled = true;
+            queue.clear();
+            queue.offer(END);
+        }
+
+        /**
+         * Puts an item into the queue, waiting while the queue is full until the walk is cancelled.
+         */
+        private final class Publisher implements ForkJoinPool.ManagedBlocker {
+            private final Object item;
+            private boolean done = false;
+
+            Publisher(Object item) {
+                this.item = item;
+            }
+
+            @Override
+            public boolean block() throws InterruptedException {
+                done = cancelled || queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                return done;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return done || cancelled || (done = queue.offer(item));
+            }
+        }
+    }
+
+    private static class DirectoryWalkTask extends RecursiveAction {
+        private final transient WalkState state;
+        private final transient Path dir;
+        private final int depth;
+
+        DirectoryWalkTask(WalkState state, Path dir, int depth) {
+            this.state = state;
+            this.dir = dir;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            List<DirectoryWalkTask> subTasks = new ArrayList<>();
+            try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(dir)) {
+                for (Path entry : dirStream) {
+                    if (state.isStopped()) {
+                        break;
+                    }
+                    boolean nameMatches = state.filter.matchesName(entry);
+                    if (!nameMatches && depth >= state.maxDepth) {
+                        // Neither returned nor descended into, so the attributes are never read.
+                        continue;
+                    }
+                    BasicFileAttributes attrs;
+                    try {
+                        attrs = DirectoryHandles.readAttributes(dirStream, entry, LinkOption.NOFOLLOW_LINKS);
+                    } catch (NoSuchFileException e) {
+                        // The entry was removed after it was listed.
+                        continue;
+                    } catch (AccessDeniedException | SecurityException e) {
+                        continue;
+                    }
+                    // Symbolic links are never descended into, but the attributes of the link target are reported
+                    // where the target exists.
+                    boolean link = attrs.isSymbolicLink();
+                    if (link) {
+                        attrs = followLink(dirStream, entry, attrs);
+                    }
+                    if (nameMatches && state.filter.matches(attrs)) {
+                        state.publish(new WalkEntry(entry, attrs));
+                    }
+                    if (!link && attrs.isDirectory() && depth < state.maxDepth) {
+                        DirectoryWalkTask subTask = new DirectoryWalkTask(state, entry, depth + 1);
+                        subTask.fork();
+                        subTasks.add(subTask);
+                    }
+                }
+            } catch (NoSuchFileException e) {
+                // The directory was removed after it was listed.
+            } catch (AccessDeniedException | SecurityException e) {
+                if (depth == 1) {
+                    state.publish(e);
+                }
+                // Otherwise the directory was already returned by its parent, so only its unreadable contents are
+                // skipped.
+            } catch (IOException e) {
+                state.publish(e);
+            } catch (DirectoryIteratorException e) {
+                state.publish(e.getCause());
+            }
+            for (DirectoryWalkTask subTask : subTasks) {
+                subTask.join();
+            }
+        }
+
+        private static BasicFileAttributes followLink(DirectoryStream<Path> dirStream, Path link,
+                                                      BasicFileAttributes linkAttrs) {
+            try {
+                return DirectoryHandles.readAttributes(dirStream, link);
+            } catch (IOException e) {
+                return linkAttrs;
+            }
+        }
+    }
+}
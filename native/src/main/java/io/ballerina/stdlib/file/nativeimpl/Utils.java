@@ -18,7 +18,6 @@
 
 package io.ballerina.stdlib.file.nativeimpl;
 
-import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
@@ -27,33 +26,54 @@ import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.file.utils.FileConstants;
 import io.ballerina.stdlib.file.utils.FileUtils;
+import io.ballerina.stdlib.file.utils.MetaDataCache;
+import io.ballerina.stdlib.file.utils.MetaDataFields;
 import io.ballerina.stdlib.file.utils.ModuleUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.CopyOption;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.LinkOption;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Stream;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
@@ -68,22 +88,40 @@ public class Utils {
     private static final String CURRENT_DIR_PROPERTY_KEY = "user.dir";
     private static final String TEMP_DIR_PROPERTY_KEY = "java.io.tmpdir";
     private static final String ERROR_MSG = "Error while deleting the file/directory: ";
+    private static final int MAX_PARALLELISM = 256;
 
-    // This represents the fields of `MetaData` record in file_meta_data.bal file. Any changes to that type must be
-    // reflected here as well
-    private static final List<RecordField> METADATA_RECORD_FIELDS = List.of(
-        new RecordField("absPath", PredefinedTypes.TYPE_STRING),
-        new RecordField("size", PredefinedTypes.TYPE_INT),
-        // time:Utc
-        new RecordField("modifiedTime", TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_INT,
-                PredefinedTypes.TYPE_DECIMAL), PredefinedTypes.TYPE_NEVER, 0, true)),
-        new RecordField("dir", PredefinedTypes.TYPE_BOOLEAN),
-        new RecordField("readable", PredefinedTypes.TYPE_BOOLEAN),
-        new RecordField("writable", PredefinedTypes.TYPE_BOOLEAN)
+    private static final List<RecordField> DISK_USAGE_RECORD_FIELDS = List.of(
+        new RecordField(FileConstants.ABS_PATH, PredefinedTypes.TYPE_STRING),
+        new RecordField(FileConstants.SIZE, PredefinedTypes.TYPE_INT),
+        new RecordField(FileConstants.DISK_USAGE_FILE_COUNT, PredefinedTypes.TYPE_INT),
+        new RecordField(FileConstants.DISK_USAGE_DIR_COUNT, PredefinedTypes.TYPE_INT),
+        new RecordField(FileConstants.DISK_USAGE_SKIPPED_COUNT, PredefinedTypes.TYPE_INT),
+        new RecordField(FileConstants.DISK_USAGE_DEPTH, PredefinedTypes.TYPE_INT)
     );
 
-    private static final RecordType METADATA_TYPE = createMetaDataType();
-    private static final ArrayType METADATA_ARRAY_TYPE = TypeCreator.createArrayType(METADATA_TYPE);
+    private static final List<RecordField> SKIPPED_ENTRY_RECORD_FIELDS = List.of(
+        new RecordField(FileConstants.ABS_PATH, PredefinedTypes.TYPE_STRING),
+        new RecordField(FileConstants.STATS_REASON, PredefinedTypes.TYPE_STRING)
+    );
+
+    private static final List<RecordField> PHASE_TIME_RECORD_FIELDS = List.of(
+        new RecordField(FileConstants.STATS_NAME, PredefinedTypes.TYPE_STRING),
+        new RecordField(FileConstants.STATS_ELAPSED_TIME, PredefinedTypes.TYPE_DECIMAL)
+    );
+
+    private static final ArrayType METADATA_ARRAY_TYPE = TypeCreator.createArrayType(FileUtils.METADATA_TYPE);
+    private static final ArrayType METADATA_BATCH_TYPE = TypeCreator.createArrayType(
+            TypeCreator.createUnionType(FileUtils.METADATA_TYPE, PredefinedTypes.TYPE_ERROR));
+    private static final ArrayType TEST_BATCH_TYPE = TypeCreator.createArrayType(
+            TypeCreator.createUnionType(PredefinedTypes.TYPE_BOOLEAN, PredefinedTypes.TYPE_ERROR));
+    private static final ArrayType DISK_USAGE_ARRAY_TYPE = TypeCreator.createArrayType(
+            createRecordType(FileConstants.DISK_USAGE, DISK_USAGE_RECORD_FIELDS));
+    private static final ArrayType SKIPPED_ENTRY_ARRAY_TYPE = TypeCreator.createArrayType(
+            createRecordType(FileConstants.SKIPPED_ENTRY, SKIPPED_ENTRY_RECORD_FIELDS));
+    private static final ArrayType PHASE_TIME_ARRAY_TYPE = TypeCreator.createArrayType(
+            createRecordType(FileConstants.PHASE_TIME, PHASE_TIME_RECORD_FIELDS));
+    private static final Set<String> TEST_OPTIONS = Set.of(FileConstants.EXISTS, FileConstants.IS_DIR,
+            FileConstants.IS_SYMLINK, FileConstants.READABLE, FileConstants.WRITABLE);
 
 
     public static BString getCurrentDirectory() {
@@ -115,10 +153,12 @@ public class Utils {
             String msg = "Error while creating the file " + dir;
             log.error(msg, e);
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, msg);
+        } finally {
+            MetaDataCache.invalidate(Paths.get(dir.getValue()));
         }
     }
 
-    public static Object rename(BString oldPath, BString newPath) {
+    public static Object rename(BString oldPath, BString newPath, BString durability) {
         Path oldFilePath = Paths.get(oldPath.getValue());
         Path newFilePath = Paths.get(newPath.getValue());
 
@@ -128,7 +168,10 @@ public class Utils {
         }
 
         try {
-            Files.move(oldFilePath.toAbsolutePath(), newFilePath.toAbsolutePath());
+            CrossDeviceMove.move(oldFilePath.toAbsolutePath(), newFilePath.toAbsolutePath());
+            Durability policy = Durability.valueOf(durability.getValue());
+            policy.commit(newFilePath);
+            policy.commit(oldFilePath);
             return null;
         } catch (FileAlreadyExistsException e) {
             return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
@@ -137,12 +180,40 @@ public class Utils {
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
         } catch (SecurityException e) {
             return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, e);
+        } finally {
+            MetaDataCache.invalidate(oldFilePath);
+            MetaDataCache.invalidate(newFilePath);
+        }
+    }
+
+    public static Object link(BString existingPath, BString linkPath) {
+        Path existingFilePath = Paths.get(existingPath.getValue());
+        Path linkFilePath = Paths.get(linkPath.getValue());
+        try {
+            Files.createLink(linkFilePath, existingFilePath);
+            return null;
+        } catch (NoSuchFileException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
+                    "File not found: " + e.getMessage());
+        } catch (FileAlreadyExistsException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "File already exists in the link path " + linkFilePath);
+        } catch (UnsupportedOperationException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Hard links are not supported by the file system of " + linkFilePath);
+        } catch (IOException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
+        } catch (SecurityException e) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, e);
+        } finally {
+            MetaDataCache.invalidate(linkFilePath);
         }
     }
 
-    public static Object createFile(BString path) {
+    public static Object createFile(BString path, BString durability) {
         try {
-            Files.createFile(Paths.get(path.getValue()));
+            Path filePath = Files.createFile(Paths.get(path.getValue()));
+            Durability.valueOf(durability.getValue()).commit(filePath);
             return null;
         } catch (FileAlreadyExistsException e) {
             String msg = "File already exists. Failed to create the file: " + path;
@@ -163,23 +234,182 @@ public class Utils {
             String msg = "Error occurred while creating the file " + path;
             log.error(msg, e);
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, msg);
+        } finally {
+            MetaDataCache.invalidate(Paths.get(path.getValue()));
         }
     }
 
-    public static Object getMetaData(BString path) {
-        File inputFile = Paths.get(path.getValue()).toAbsolutePath().toFile();
-        if (!inputFile.exists()) {
-            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+    public static Object getMetaData(BString path, BMap<BString, Object> options) {
+        return getMetaData(path.getValue(), MetaDataFields.from(options));
+    }
+
+    public static Object getMetaDataBatch(BArray paths, BMap<BString, Object> options) {
+        MetaDataFields fields = MetaDataFields.from(options);
+        String[] inputPaths = paths.getStringArray();
+        try {
+            Object[] results = WorkerPools.runBatch(inputPaths.length, i -> getMetaData(inputPaths[i], fields));
+            return ValueCreator.createArrayValue(results, METADATA_BATCH_TYPE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, "Metadata batch interrupted");
         }
+    }
+
+    private static Object getMetaData(String path, MetaDataFields fields) {
         try {
-            return FileUtils.getMetaData(inputFile);
+            Path inputPath = Paths.get(path).toAbsolutePath();
+            if (MetaDataCache.isEnabled()) {
+                MetaDataCache.FileStatus status = MetaDataCache.getStatus(inputPath);
+                if (!status.exists()) {
+                    return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+                }
+                return FileUtils.getMetaData(inputPath, status, fields);
+            }
+            if (!fields.needsAttributes() && Files.notExists(inputPath)) {
+                return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+            }
+            return FileUtils.getMetaData(inputPath, fields);
+        } catch (NoSuchFileException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+        } catch (InvalidPathException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_PATH_ERROR, e);
         } catch (IOException e) {
             log.error("IO error while creating the file " + path, e);
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
+        } catch (SecurityException e) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, e);
         }
     }
 
     public static Object remove(BString path, BString dirOption) {
+        return remove(path, dirOption, 1, null);
+    }
+
+    public static Object removeWithConfig(BString path, BMap<BString, Object> config) {
+        long parallelism = config.getIntValue(StringUtils.fromString(FileConstants.REMOVE_PARALLELISM));
+        if (parallelism <= 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid remove parallelism: " + parallelism);
+        }
+        return remove(path, config.getStringValue(StringUtils.fromString(FileConstants.REMOVE_OPTION)),
+                (int) Math.min(parallelism, MAX_PARALLELISM), null);
+    }
+
+    public static Object removeWithStats(BString path, BString dirOption) {
+        OperationStatsCollector stats = new OperationStatsCollector();
+        Object result = remove(path, dirOption, 1, stats);
+        return result != null ? result : createOperationStats(stats);
+    }
+
+    public static Object removeAsync(BString path) {
+        Path removePath = Paths.get(path.getValue()).toAbsolutePath();
+        String wdBValue = FileUtils.getSystemProperty(CURRENT_DIR_PROPERTY_KEY);
+        try {
+            if (Files.exists(removePath) && Files.isSameFile(Paths.get(wdBValue), removePath)) {
+                return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                        "Cannot delete the current working directory " + removePath.toRealPath());
+            }
+            if (!Files.exists(removePath, LinkOption.NOFOLLOW_LINKS)) {
+                return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
+                        "File not found: " + removePath);
+            }
+            TrashReaper.moveToTrash(removePath);
+            return null;
+        } catch (AtomicMoveNotSupportedException ex) {
+            // The entry cannot be moved atomically into the trash, such as when it is on a different file system than
+            // its parent directory, so it is removed now.
+            log.debug("Failed to move " + removePath + " to the trash: " + ex.getMessage());
+            return remove(path, StringUtils.fromString(FileConstants.RECURSIVE), 1, null);
+        } catch (AccessDeniedException ex) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ERROR_MSG + ex.getMessage());
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ERROR_MSG + ex.getMessage());
+        } catch (SecurityException ex) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ERROR_MSG + ex.getMessage());
+        } finally {
+            MetaDataCache.invalidate(removePath);
+        }
+    }
+
+    public static Object configureTrash(BMap<BString, Object> config) {
+        long batchSize = config.getIntValue(StringUtils.fromString(FileConstants.TRASH_BATCH_SIZE));
+        BigDecimal batchPause = ((BDecimal) config.get(StringUtils.fromString(FileConstants.TRASH_BATCH_PAUSE)))
+                .decimalValue();
+        if (batchSize <= 0 || batchSize > Integer.MAX_VALUE) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid trash deletion batch size: " + batchSize);
+        }
+        if (batchPause.signum() < 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid pause between trash deletion batches: " + batchPause);
+        }
+        BigDecimal batchPauseNanos = batchPause.movePointRight(9).setScale(0, RoundingMode.CEILING)
+                .min(BigDecimal.valueOf(Long.MAX_VALUE));
+        TrashReaper.configure((int) batchSize, batchPauseNanos.longValue());
+        return null;
+    }
+
+    public static Object purge(BString path, BMap<BString, Object> options) {
+        Object olderThan = options.get(StringUtils.fromString(FileConstants.PURGE_OLDER_THAN));
+        Object pattern = options.get(StringUtils.fromString(FileConstants.PURGE_PATTERN));
+        Object maxBytes = options.get(StringUtils.fromString(FileConstants.PURGE_MAX_BYTES));
+        boolean recursive = options.getBooleanValue(StringUtils.fromString(FileConstants.PURGE_RECURSIVE));
+        if (olderThan == null && pattern == null && maxBytes == null) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "At least one of olderThan, pattern or maxBytes is required to purge " + path);
+        }
+        long modifiedBefore = -1;
+        if (olderThan != null) {
+            BigDecimal age = ((BDecimal) olderThan).decimalValue();
+            if (age.signum() < 0) {
+                return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, "Invalid age: " + age);
+            }
+            modifiedBefore = System.currentTimeMillis() - age.movePointRight(3).longValue();
+        }
+        long sizeLimit = maxBytes == null ? -1 : (Long) maxBytes;
+        if (maxBytes != null && sizeLimit < 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, "Invalid size: " + sizeLimit);
+        }
+        PathMatcher matcher = null;
+        if (pattern != null) {
+            try {
+                matcher = EntryFilter.createNameMatcher(((BString) pattern).getValue());
+            } catch (IllegalArgumentException e) {
+                return FileUtils.getBallerinaError(FileConstants.INVALID_PATTERN_ERROR,
+                        "Invalid pattern " + pattern + ": " + e.getMessage());
+            }
+        }
+        Path root = Paths.get(path.getValue()).toAbsolutePath();
+        if (!Files.exists(root)) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+        }
+        if (!Files.isDirectory(root)) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "File in path " + path + " is not a directory");
+        }
+        OperationStatsCollector stats = new OperationStatsCollector();
+        PurgeVisitor visitor = new PurgeVisitor(matcher, modifiedBefore, sizeLimit, stats);
+        try {
+            Files.walkFileTree(root, EnumSet.noneOf(FileVisitOption.class), recursive ? Integer.MAX_VALUE : 1,
+                    visitor);
+            visitor.applySizeLimit();
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } catch (SecurityException ex) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
+        } finally {
+            MetaDataCache.invalidateAll();
+        }
+        Map<String, Object> purgeRecord = new HashMap<>();
+        purgeRecord.put(FileConstants.PURGE_FILES_SCANNED, visitor.filesScanned());
+        purgeRecord.put(FileConstants.PURGE_FILES_DELETED, stats.files());
+        purgeRecord.put(FileConstants.PURGE_BYTES_RECLAIMED, stats.bytes());
+        purgeRecord.put(FileConstants.STATS_SKIPPED, createSkippedEntries(stats));
+        purgeRecord.put(FileConstants.STATS_ELAPSED_TIME, toSeconds(stats.elapsedNanos()));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), FileConstants.PURGE_RESULT, purgeRecord);
+    }
+
+    private static Object remove(BString path, BString dirOption, int parallelism, OperationStatsCollector stats) {
         File removeFile = Paths.get(path.getValue()).toAbsolutePath().toFile();
         String wdBValue = FileUtils.getSystemProperty(CURRENT_DIR_PROPERTY_KEY);
         File wd = Paths.get(wdBValue).toAbsolutePath().toFile();
@@ -198,33 +428,33 @@ public class Utils {
 
             if (op.equals(FileConstants.RECURSIVE)) {
                 Path directory = Paths.get(removeFile.getCanonicalPath());
-                Files.walkFileTree(directory, new RecursiveFileVisitor());
+                if (parallelism > 1 && Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)) {
+                    ParallelTreeRemove.remove(directory, parallelism, stats);
+                } else {
+                    DirectoryHandles.removeTree(directory, stats);
+                }
+            } else if (stats != null) {
+                BasicFileAttributes attrs = Files.readAttributes(removeFile.toPath(), BasicFileAttributes.class,
+                        LinkOption.NOFOLLOW_LINKS);
+                Files.delete(removeFile.toPath());
+                DirectoryHandles.count(stats, attrs);
             } else {
                 Files.delete(removeFile.toPath());
             }
+            if (stats != null) {
+                stats.endPhase(FileConstants.PHASE_REMOVE);
+            }
             return null;
         } catch (IOException ex) {
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ERROR_MSG + ex.getMessage());
         } catch (SecurityException ex) {
             return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ERROR_MSG + ex.getMessage());
+        } finally {
+            MetaDataCache.invalidate(removeFile.toPath());
         }
     }
 
-    static class RecursiveFileVisitor extends SimpleFileVisitor<Path> {
-        @Override
-        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-            Files.delete(file);
-            return FileVisitResult.CONTINUE;
-        }
-
-        @Override
-        public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
-            Files.delete(dir);
-            return FileVisitResult.CONTINUE;
-        }
-    }
-
-    public static Object readDir(BString path) {
+    public static Object readDir(BString path, Object pattern, BMap<BString, Object> options) {
         File inputFile = Paths.get(path.getValue()).toAbsolutePath().toFile();
 
         if (!inputFile.exists()) {
@@ -237,64 +467,606 @@ public class Utils {
                     "File in path " + path + " is not a directory");
         }
 
-        return readFileTree(inputFile);
+        MetaDataFields fields = MetaDataFields.from(options);
+        if (pattern == null && fields.needsAttributes()) {
+            return readFileTree(inputFile, fields);
+        }
+        PathMatcher matcher = null;
+        if (pattern != null) {
+            try {
+                matcher = EntryFilter.createNameMatcher(((BString) pattern).getValue());
+            } catch (IllegalArgumentException e) {
+                return FileUtils.getBallerinaError(FileConstants.INVALID_PATTERN_ERROR,
+                        "Invalid pattern " + pattern + ": " + e.getMessage());
+            }
+        }
+        return readFileTree(inputFile, matcher, fields);
     }
 
-    private static Object readFileTree(File inputFile) {
-        Object[] results;
-        try (Stream<Path> walk = Files.walk(inputFile.toPath(), FileConstants.MAX_DEPTH)) {
-            results = walk.map(x -> {
-                try {
-                    return FileUtils.getMetaData(x.toFile());
-                } catch (IOException e) {
-                    throw ErrorCreator.createError(StringUtils.fromString("Error while accessing file info"), e);
+    private static Object readFileTree(File inputFile, MetaDataFields fields) {
+        Path root = inputFile.toPath();
+        List<Object> results = new ArrayList<>();
+        try {
+            Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), FileConstants.MAX_DEPTH,
+                    new SimpleFileVisitor<>() {
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                            // The walker has already read the attributes of the entry, so they are reused here
+                            // instead of querying the file system again.
+                            results.add(FileUtils.getMetaData(file, attrs, fields));
+                            return CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                            if (exc instanceof NoSuchFileException) {
+                                // The entry was removed after it was listed.
+                                return CONTINUE;
+                            }
+                            throw exc;
+                        }
+                    });
+            return ValueCreator.createArrayValue(results.toArray(), METADATA_ARRAY_TYPE);
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } catch (SecurityException ex) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
+        }
+    }
+
+    private static Object readFileTree(File inputFile, PathMatcher matcher, MetaDataFields fields) {
+        List<Object> results = new ArrayList<>();
+        // The names are matched by the directory stream itself, so entries that do not match cost only a name
+        // comparison. The attributes of the matching entries are only read if a field derived from them is selected.
+        DirectoryStream.Filter<Path> nameFilter = entry -> matcher == null || matcher.matches(entry.getFileName());
+        try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(inputFile.toPath(), nameFilter)) {
+            for (Path entry : dirStream) {
+                if (!fields.needsAttributes()) {
+                    results.add(FileUtils.getMetaData(entry, (BasicFileAttributes) null, fields));
+                    continue;
+                }
+                BasicFileAttributes attrs = readEntryAttributes(entry);
+                if (attrs != null) {
+                    results.add(FileUtils.getMetaData(entry, attrs, fields));
                 }
-            }).skip(1).toArray(Object[]::new);
-            return ValueCreator.createArrayValue(results, METADATA_ARRAY_TYPE);
-        } catch (IOException | BError ex) {
+            }
+            return ValueCreator.createArrayValue(results.toArray(), METADATA_ARRAY_TYPE);
+        } catch (IOException ex) {
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex);
+        } catch (DirectoryIteratorException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, ex.getCause());
         } catch (SecurityException ex) {
             return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, ex);
         }
     }
 
-    private static RecordType createMetaDataType() {
-        Map<String, Field> fields = METADATA_RECORD_FIELDS.stream()
+    /**
+     * Reads the attributes of a directory entry following symbolic links, in the same way as the file tree walker.
+     * The attributes of the link itself are returned for broken links.
+     *
+     * @return the attributes or {@code null} if the entry was removed after it was listed
+     */
+    private static BasicFileAttributes readEntryAttributes(Path entry) throws IOException {
+        try {
+            return Files.readAttributes(entry, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            try {
+                return Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (NoSuchFileException ex) {
+                return null;
+            }
+        }
+    }
+
+    public static Object readDirPage(BString path, long pageSize, Object cursor) {
+        if (pageSize <= 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid page size: " + pageSize);
+        }
+        String after = null;
+        if (cursor != null) {
+            try {
+                after = new String(Base64.getUrlDecoder().decode(((BString) cursor).getValue()),
+                        StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, "Invalid cursor: " + cursor);
+            }
+        }
+        Path dirPath = Paths.get(path.getValue()).toAbsolutePath();
+        int limit = (int) Math.min(pageSize, Integer.MAX_VALUE - 1);
+        // Entries are paged in the order of their names. Only the names that follow the cursor are considered and
+        // at most one page of them (plus one to detect the next page) is kept at a time, so neither the preceding
+        // pages nor the rest of the directory is materialised.
+        PriorityQueue<String> page = new PriorityQueue<>(Comparator.reverseOrder());
+        try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(dirPath)) {
+            for (Path entry : dirStream) {
+                String name = entry.getFileName().toString();
+                if (after != null && name.compareTo(after) <= 0) {
+                    continue;
+                }
+                if (page.size() <= limit) {
+                    page.add(name);
+                } else if (name.compareTo(page.peek()) < 0) {
+                    page.poll();
+                    page.add(name);
+                }
+            }
+            boolean hasNext = page.size() > limit;
+            if (hasNext) {
+                page.poll();
+            }
+            String[] names = page.toArray(new String[0]);
+            Arrays.sort(names);
+            List<Object> entries = new ArrayList<>(names.length);
+            for (String name : names) {
+                try {
+                    entries.add(FileUtils.getMetaData(dirPath.resolve(name)));
+                } catch (NoSuchFileException e) {
+                    // The entry was removed after it was listed.
+                }
+            }
+            Map<String, Object> dirPage = new HashMap<>();
+            dirPage.put(FileConstants.DIR_PAGE_ENTRIES,
+                    ValueCreator.createArrayValue(entries.toArray(), METADATA_ARRAY_TYPE));
+            if (hasNext && names.length > 0) {
+                dirPage.put(FileConstants.DIR_PAGE_CURSOR, StringUtils.fromString(Base64.getUrlEncoder()
+                        .withoutPadding().encodeToString(names[names.length - 1].getBytes(StandardCharsets.UTF_8))));
+            } else {
+                dirPage.put(FileConstants.DIR_PAGE_CURSOR, null);
+            }
+            return ValueCreator.createRecordValue(ModuleUtils.getModule(), FileConstants.DIR_PAGE, dirPage);
+        } catch (NoSuchFileException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+        } catch (NotDirectoryException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "File in path " + path + " is not a directory");
+        } catch (IOException | DirectoryIteratorException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
+        } catch (SecurityException e) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, e);
+        }
+    }
+
+    public static Object topK(BString path, BString key, long n, BString order) {
+        if (n < 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid number of entries: " + n);
+        }
+        Comparator<TopKEntry> comparator;
+        switch (key.getValue()) {
+            case FileConstants.SORT_KEY_SIZE:
+                comparator = Comparator.comparingLong(entry -> entry.attrs().size());
+                break;
+            case FileConstants.SORT_KEY_MODIFIED_TIME:
+                comparator = Comparator.comparing(entry -> entry.attrs().lastModifiedTime());
+                break;
+            case FileConstants.SORT_KEY_NAME:
+                comparator = (entry1, entry2) -> 0;
+                break;
+            default:
+                return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, "Unsupported sort key.");
+        }
+        // Entries with equal keys are ordered by their names, so the result does not depend on the listing order.
+        comparator = comparator.thenComparing(TopKEntry::name);
+        if (FileConstants.DESCENDING.equals(order.getValue())) {
+            comparator = comparator.reversed();
+        }
+        boolean byName = FileConstants.SORT_KEY_NAME.equals(key.getValue());
+        Path dirPath = Paths.get(path.getValue()).toAbsolutePath();
+        int limit = (int) Math.min(n, Integer.MAX_VALUE - 1);
+        // The heap is ordered in reverse, so its head is the entry to be dropped first and at most n entries are kept
+        // at a time. The attributes are not read while selecting the entries when they are ordered by name.
+        PriorityQueue<TopKEntry> heap = new PriorityQueue<>(comparator.reversed());
+        try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(dirPath)) {
+            for (Path entry : dirStream) {
+                if (limit == 0) {
+                    break;
+                }
+                BasicFileAttributes attrs = null;
+                if (!byName) {
+                    attrs = readEntryAttributes(entry);
+                    if (attrs == null) {
+                        continue;
+                    }
+                }
+                TopKEntry topKEntry = new TopKEntry(entry, entry.getFileName().toString(), attrs);
+                if (heap.size() < limit) {
+                    heap.add(topKEntry);
+                } else if (comparator.compare(topKEntry, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(topKEntry);
+                }
+            }
+            TopKEntry[] topEntries = heap.toArray(new TopKEntry[0]);
+            Arrays.sort(topEntries, comparator);
+            List<Object> entries = new ArrayList<>(topEntries.length);
+            for (TopKEntry topEntry : topEntries) {
+                BasicFileAttributes attrs = byName ? readEntryAttributes(topEntry.path()) : topEntry.attrs();
+                if (attrs != null) {
+                    entries.add(FileUtils.getMetaData(topEntry.path(), attrs));
+                }
+            }
+            return ValueCreator.createArrayValue(entries.toArray(), METADATA_ARRAY_TYPE);
+        } catch (NoSuchFileException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+        } catch (NotDirectoryException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "File in path " + path + " is not a directory");
+        } catch (IOException | DirectoryIteratorException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
+        } catch (SecurityException e) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, e);
+        }
+    }
+
+    public static Object openDirStream(BObject metaDataStream, BString path) {
+        Path dirPath = Paths.get(path.getValue()).toAbsolutePath();
+        try {
+            DirectoryStream<Path> dirStream = Files.newDirectoryStream(dirPath);
+            metaDataStream.addNativeData(FileConstants.META_DATA_ITERATOR, new DirectoryEntryIterator(dirStream));
+            return null;
+        } catch (NoSuchFileException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+        } catch (NotDirectoryException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "File in path " + path + " is not a directory");
+        } catch (IOException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
+        } catch (SecurityException e) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, e);
+        }
+    }
+
+    public static Object openWalkStream(BObject metaDataStream, BString path, Object maxDepth,
+                                        BMap<BString, Object> filter) {
+        int depth = Integer.MAX_VALUE;
+        if (maxDepth != null) {
+            long value = (Long) maxDepth;
+            if (value <= 0) {
+                return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                        "Invalid maximum depth: " + value);
+            }
+            depth = (int) Math.min(value, Integer.MAX_VALUE);
+        }
+        Path root = Paths.get(path.getValue()).toAbsolutePath();
+        if (Files.notExists(root)) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+        }
+        if (!Files.isDirectory(root)) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "File in path " + path + " is not a directory");
+        }
+        EntryFilter entryFilter;
+        try {
+            entryFilter = EntryFilter.from(filter);
+        } catch (IllegalArgumentException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_PATTERN_ERROR,
+                    "Invalid pattern in the filter: " + e.getMessage());
+        }
+        metaDataStream.addNativeData(FileConstants.META_DATA_ITERATOR,
+                TreeWalkIterator.start(root, depth, entryFilter));
+        return null;
+    }
+
+    public static Object nextStreamEntry(BObject metaDataStream) {
+        Object iterator = metaDataStream.getNativeData(FileConstants.META_DATA_ITERATOR);
+        if (iterator instanceof MetaDataIterator metaDataIterator) {
+            return metaDataIterator.next();
+        }
+        return null;
+    }
+
+    public static Object closeStream(BObject metaDataStream) {
+        Object iterator = metaDataStream.getNativeData(FileConstants.META_DATA_ITERATOR);
+        if (iterator instanceof MetaDataIterator metaDataIterator) {
+            metaDataIterator.close();
+        }
+        return null;
+    }
+
+    public static void initCopyProgress(BObject copyProgress) {
+        copyProgress.addNativeData(FileConstants.COPY_PROGRESS_COUNTER, new CopyProgressCounter());
+    }
+
+    public static BMap<BString, Object> getCopyStatus(BObject copyProgress) {
+        return ((CopyProgressCounter) copyProgress.getNativeData(FileConstants.COPY_PROGRESS_COUNTER)).toStatus();
+    }
+
+    public static Object enableMetaDataCache(BMap<BString, Object> config) {
+        long maxEntries = config.getIntValue(StringUtils.fromString(FileConstants.CACHE_MAX_ENTRIES));
+        BigDecimal ttl = ((BDecimal) config.get(StringUtils.fromString(FileConstants.CACHE_TTL))).decimalValue();
+        if (maxEntries <= 0 || maxEntries > Integer.MAX_VALUE) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid maximum number of cache entries: " + maxEntries);
+        }
+        if (ttl.signum() <= 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid cache time to live: " + ttl);
+        }
+        // Bounded so that the expiry time computed from System.nanoTime() does not overflow.
+        BigDecimal ttlNanos = ttl.movePointRight(9).setScale(0, RoundingMode.CEILING)
+                .min(BigDecimal.valueOf(Long.MAX_VALUE / 2));
+        MetaDataCache.enable((int) maxEntries, ttlNanos.longValue());
+        return null;
+    }
+
+    public static Object configureGroupCommit(BMap<BString, Object> config) {
+        long maxFiles = config.getIntValue(StringUtils.fromString(FileConstants.GROUP_COMMIT_MAX_FILES));
+        BigDecimal maxDelay = ((BDecimal) config.get(StringUtils.fromString(FileConstants.GROUP_COMMIT_MAX_DELAY)))
+                .decimalValue();
+        if (maxFiles <= 0 || maxFiles > Integer.MAX_VALUE) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid maximum number of files in a group commit: " + maxFiles);
+        }
+        if (maxDelay.signum() <= 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid maximum delay of a group commit: " + maxDelay);
+        }
+        BigDecimal maxDelayNanos = maxDelay.movePointRight(9).setScale(0, RoundingMode.CEILING)
+                .min(BigDecimal.valueOf(Long.MAX_VALUE));
+        GroupCommitter.configure((int) maxFiles, maxDelayNanos.longValue());
+        return null;
+    }
+
+    public static Object flushGroupCommit() {
+        try {
+            GroupCommitter.flush();
+            return null;
+        } catch (IOException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
+        }
+    }
+
+    public static void disableMetaDataCache() {
+        MetaDataCache.disable();
+    }
+
+    public static Object invalidateMetaDataCache(Object path) {
+        if (path == null) {
+            MetaDataCache.invalidateAll();
+            return null;
+        }
+        try {
+            MetaDataCache.invalidate(Paths.get(((BString) path).getValue()));
+            return null;
+        } catch (InvalidPathException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_PATH_ERROR, e);
+        }
+    }
+
+    public static BMap<BString, Object> getMetaDataCacheStats() {
+        MetaDataCache.Stats stats = MetaDataCache.getStats();
+        Map<String, Object> statsRecord = new HashMap<>();
+        statsRecord.put(FileConstants.CACHE_HITS, stats != null ? stats.hits() : 0L);
+        statsRecord.put(FileConstants.CACHE_MISSES, stats != null ? stats.misses() : 0L);
+        statsRecord.put(FileConstants.CACHE_EVICTIONS, stats != null ? stats.evictions() : 0L);
+        statsRecord.put(FileConstants.CACHE_EXPIRATIONS, stats != null ? stats.expirations() : 0L);
+        statsRecord.put(FileConstants.SIZE, stats != null ? (long) stats.size() : 0L);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), FileConstants.METADATA_CACHE_STATS,
+                statsRecord);
+    }
+
+    private static RecordType createRecordType(String name, List<RecordField> recordFields) {
+        Map<String, Field> fields = recordFields.stream()
                 .collect(HashMap::new,
                         (m, v) -> m.put(v.name(), TypeCreator.createField(v.type(), v.name(), 0)),
                         Map::putAll);
-        return TypeCreator.createRecordType(FileConstants.METADATA, ModuleUtils.getModule(), 0, fields,
+        return TypeCreator.createRecordType(name, ModuleUtils.getModule(), 0, fields,
                 PredefinedTypes.TYPE_NEVER, true, 0);
     }
 
+    public static Object diskUsage(BString path, long depth) {
+        if (depth < 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, "Invalid depth: " + depth);
+        }
+        Path root = Paths.get(path.getValue()).toAbsolutePath();
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(root, BasicFileAttributes.class);
+            List<Object> entries = new ArrayList<>();
+            if (attrs.isDirectory()) {
+                addDiskUsage(entries, DiskUsageTask.compute(root, (int) Math.min(depth, Integer.MAX_VALUE)));
+            } else {
+                addDiskUsage(entries, new DiskUsageTask.Usage(root, 0, attrs.size(), 1, 0, 0, List.of()));
+            }
+            return ValueCreator.createArrayValue(entries.toArray(), DISK_USAGE_ARRAY_TYPE);
+        } catch (NoSuchFileException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR, "File not found: " + path);
+        } catch (AccessDeniedException | SecurityException e) {
+            return FileUtils.getBallerinaError(FileConstants.PERMISSION_ERROR, e);
+        } catch (IOException e) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, e);
+        }
+    }
+
+    private static void addDiskUsage(List<Object> entries, DiskUsageTask.Usage usage) {
+        Map<String, Object> usageRecord = new HashMap<>();
+        usageRecord.put(FileConstants.ABS_PATH, usage.path().toString());
+        usageRecord.put(FileConstants.SIZE, usage.size());
+        usageRecord.put(FileConstants.DISK_USAGE_FILE_COUNT, usage.fileCount());
+        usageRecord.put(FileConstants.DISK_USAGE_DIR_COUNT, usage.dirCount());
+        usageRecord.put(FileConstants.DISK_USAGE_SKIPPED_COUNT, usage.skippedCount());
+        usageRecord.put(FileConstants.DISK_USAGE_DEPTH, (long) usage.depth());
+        entries.add(ValueCreator.createRecordValue(ModuleUtils.getModule(), FileConstants.DISK_USAGE, usageRecord));
+        for (DiskUsageTask.Usage child : usage.children()) {
+            addDiskUsage(entries, child);
+        }
+    }
+
+    private static BMap<BString, Object> createOperationStats(OperationStatsCollector stats) {
+        List<OperationStatsCollector.Phase> phaseList = stats.phases();
+        Object[] phases = new Object[phaseList.size()];
+        for (int i = 0; i < phases.length; i++) {
+            Map<String, Object> phaseRecord = new HashMap<>();
+            phaseRecord.put(FileConstants.STATS_NAME, phaseList.get(i).name());
+            phaseRecord.put(FileConstants.STATS_ELAPSED_TIME, toSeconds(phaseList.get(i).elapsedNanos()));
+            phases[i] = ValueCreator.createRecordValue(ModuleUtils.getModule(), FileConstants.PHASE_TIME,
+                    phaseRecord);
+        }
+        Map<String, Object> statsRecord = new HashMap<>();
+        statsRecord.put(FileConstants.STATS_FILES, stats.files());
+        statsRecord.put(FileConstants.STATS_DIRS, stats.dirs());
+        statsRecord.put(FileConstants.STATS_BYTES, stats.bytes());
+        statsRecord.put(FileConstants.STATS_SKIPPED, createSkippedEntries(stats));
+        statsRecord.put(FileConstants.STATS_PHASES, ValueCreator.createArrayValue(phases, PHASE_TIME_ARRAY_TYPE));
+        statsRecord.put(FileConstants.STATS_ELAPSED_TIME, toSeconds(stats.elapsedNanos()));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), FileConstants.OPERATION_STATS, statsRecord);
+    }
+
+    private static BArray createSkippedEntries(OperationStatsCollector stats) {
+        List<OperationStatsCollector.Skipped> skippedEntries = stats.skipped();
+        Object[] skipped = new Object[skippedEntries.size()];
+        for (int i = 0; i < skipped.length; i++) {
+            Map<String, Object> skippedRecord = new HashMap<>();
+            skippedRecord.put(FileConstants.ABS_PATH, skippedEntries.get(i).path().toAbsolutePath().toString());
+            skippedRecord.put(FileConstants.STATS_REASON, skippedEntries.get(i).reason());
+            skipped[i] = ValueCreator.createRecordValue(ModuleUtils.getModule(), FileConstants.SKIPPED_ENTRY,
+                    skippedRecord);
+        }
+        return ValueCreator.createArrayValue(skipped, SKIPPED_ENTRY_ARRAY_TYPE);
+    }
+
+    private static BDecimal toSeconds(long nanos) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(nanos, 9));
+    }
+
     public static Object copy(BString sourcePath, BString destinationPath, BString... copyOptions) {
+        CopyOption[] options;
+        try {
+            options = toCopyOptions(copyOptions);
+        } catch (IllegalArgumentException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, e.getMessage());
+        }
+        return copy(sourcePath, destinationPath, FileCopier.of(options), 1, null, null);
+    }
+
+    public static Object copyWithConfig(BString sourcePath, BString destinationPath, BMap<BString, Object> config) {
+        return copyWithConfig(sourcePath, destinationPath, config, null);
+    }
+
+    public static Object copyWithStats(BString sourcePath, BString destinationPath, BMap<BString, Object> config) {
+        OperationStatsCollector stats = new OperationStatsCollector();
+        Object result = copyWithConfig(sourcePath, destinationPath, config, stats);
+        return result != null ? result : createOperationStats(stats);
+    }
+
+    private static Object copyWithConfig(BString sourcePath, BString destinationPath, BMap<BString, Object> config,
+                                         OperationStatsCollector stats) {
+        long parallelism = config.getIntValue(StringUtils.fromString(FileConstants.COPY_PARALLELISM));
+        if (parallelism <= 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid copy parallelism: " + parallelism);
+        }
+        long chunkSize = config.getIntValue(StringUtils.fromString(FileConstants.COPY_CHUNK_SIZE));
+        if (chunkSize <= 0) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                    "Invalid copy chunk size: " + chunkSize);
+        }
+        BArray optionArray = config.getArrayValue(StringUtils.fromString(FileConstants.COPY_OPTIONS));
+        BString[] copyOptions = new BString[optionArray.size_()];
+        for (int i = 0; i < copyOptions.length; i++) {
+            copyOptions[i] = optionArray.getBString(i);
+        }
+        CopyOption[] options;
+        try {
+            options = toCopyOptions(copyOptions);
+        } catch (IllegalArgumentException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, e.getMessage());
+        }
+        FileCopier.Method method = FileCopier.Method.valueOf(
+                config.getStringValue(StringUtils.fromString(FileConstants.COPY_METHOD)).getValue());
+        Durability durability = Durability.valueOf(
+                config.getStringValue(StringUtils.fromString(FileConstants.COPY_DURABILITY)).getValue());
+        Object progressHandle = config.get(StringUtils.fromString(FileConstants.COPY_PROGRESS));
+        CopyProgressCounter progress = progressHandle != null ? (CopyProgressCounter) ((BObject) progressHandle)
+                .getNativeData(FileConstants.COPY_PROGRESS_COUNTER) : null;
+        FileCopier copier = new FileCopier(options, method, chunkSize, progress, stats, durability);
+        return copy(sourcePath, destinationPath, copier, (int) Math.min(parallelism, MAX_PARALLELISM), progress,
+                stats);
+    }
+
+    public static Object copyWithChecksum(BString sourcePath, BString destinationPath, BString algorithm,
+                                          Object expectedChecksum, BString... copyOptions) {
+        CopyOption[] options;
+        ContentDigest digest;
+        try {
+            options = toCopyOptions(copyOptions);
+            digest = ContentDigest.of(algorithm.getValue());
+        } catch (IllegalArgumentException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, e.getMessage());
+        }
         Path srcPath = Paths.get(sourcePath.getValue());
         Path destPath = Paths.get(destinationPath.getValue());
-        List<CopyOption> options = new ArrayList<>();
-        if (copyOptions.length > 0) {
-            for (BString op:copyOptions) {
-                if (FileConstants.REPLACE_EXISTING.equals(op.getValue())) {
-                    options.add(StandardCopyOption.REPLACE_EXISTING);
-                } else if (FileConstants.COPY_ATTRIBUTES.equals(op.getValue())) {
-                    options.add(StandardCopyOption.COPY_ATTRIBUTES);
-                } else if (FileConstants.NO_FOLLOW_LINKS.equals(op.getValue())) {
-                    options.add(LinkOption.NOFOLLOW_LINKS);
-                } else {
-                    return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, "Invalid copy option.");
+        FileCopier copier = FileCopier.of(options);
+        try {
+            if (!Files.isRegularFile(srcPath, copier.linkOptions())) {
+                if (Files.notExists(srcPath)) {
+                    return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
+                            "File not found: " + sourcePath);
                 }
+                return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR,
+                        "Checksum-verified copy is supported only for regular files: " + sourcePath);
+            }
+            copier.copy(srcPath, destPath, digest);
+            String checksum = digest.toHex();
+            if (expectedChecksum != null && !checksum.equalsIgnoreCase(expectedChecksum.toString())) {
+                Files.deleteIfExists(destPath);
+                return FileUtils.getBallerinaError(FileConstants.CHECKSUM_MISMATCH_ERROR,
+                        "Checksum mismatch for " + sourcePath + ": expected " + expectedChecksum + ", found " +
+                                checksum);
             }
+            return StringUtils.fromString(checksum);
+        } catch (NoSuchFileException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
+                    "The target directory does not exist: " + ex.getMessage());
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR,
+                    "An error occurred when copying the file/s: " + ex.getMessage());
+        } finally {
+            MetaDataCache.invalidate(destPath);
         }
-        CopyOption[] ops = new CopyOption[options.size()];
-        ops = options.toArray(ops);
+    }
+
+    private static CopyOption[] toCopyOptions(BString[] copyOptions) {
+        List<CopyOption> options = new ArrayList<>();
+        for (BString op : copyOptions) {
+            if (FileConstants.REPLACE_EXISTING.equals(op.getValue())) {
+                options.add(StandardCopyOption.REPLACE_EXISTING);
+            } else if (FileConstants.COPY_ATTRIBUTES.equals(op.getValue())) {
+                options.add(StandardCopyOption.COPY_ATTRIBUTES);
+            } else if (FileConstants.NO_FOLLOW_LINKS.equals(op.getValue())) {
+                options.add(LinkOption.NOFOLLOW_LINKS);
+            } else {
+                throw new IllegalArgumentException("Invalid copy option.");
+            }
+        }
+        return options.toArray(new CopyOption[0]);
+    }
+
+    private static Object copy(BString sourcePath, BString destinationPath, FileCopier copier, int parallelism,
+                               CopyProgressCounter progress, OperationStatsCollector stats) {
+        Path srcPath = Paths.get(sourcePath.getValue());
+        Path destPath = Paths.get(destinationPath.getValue());
         if (Files.notExists(srcPath)) {
             return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
                     "File not found: " + sourcePath);
         }
         try {
-            if (srcPath.toFile().isDirectory()) {
-                Files.walkFileTree(srcPath, new RecursiveDirCopyVisitor(srcPath, destPath, ops));
+            boolean directory = srcPath.toFile().isDirectory();
+            if (progress != null) {
+                progress.start(directory ? DiskUsageTask.compute(srcPath, 0).size() : Files.size(srcPath));
+            }
+            if (stats != null) {
+                stats.endPhase(FileConstants.PHASE_SCAN);
+            }
+            if (directory && parallelism > 1) {
+                ParallelTreeCopy.copy(srcPath, destPath, copier, parallelism);
+            } else if (directory) {
+                Files.walkFileTree(srcPath, new RecursiveDirCopyVisitor(srcPath, destPath, copier));
             } else {
-                Files.walkFileTree(srcPath, new RecursiveFileCopyVisitor(srcPath, destPath, ops));
+                Files.walkFileTree(srcPath, new RecursiveFileCopyVisitor(srcPath, destPath, copier));
+            }
+            if (stats != null) {
+                stats.endPhase(FileConstants.PHASE_COPY);
             }
         } catch (NoSuchFileException ex) {
             return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
@@ -302,29 +1074,67 @@ public class Utils {
         } catch (IOException ex) {
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR,
                     "An error occurred when copying the file/s: " + ex.getMessage());
+        } finally {
+            if (progress != null) {
+                progress.complete();
+            }
+            MetaDataCache.invalidate(destPath);
         }
         return null;
     }
 
+    public static Object sync(BString sourcePath, BString destinationPath, BMap<BString, Object> options) {
+        Path srcPath = Paths.get(sourcePath.getValue());
+        Path destPath = Paths.get(destinationPath.getValue());
+        if (Files.notExists(srcPath)) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
+                    "File not found: " + sourcePath);
+        }
+        SyncVisitor visitor = new SyncVisitor(srcPath, destPath,
+                options.getBooleanValue(StringUtils.fromString(FileConstants.SYNC_CHECKSUM)),
+                options.getBooleanValue(StringUtils.fromString(FileConstants.SYNC_DELETE)));
+        try {
+            Files.walkFileTree(srcPath, visitor);
+        } catch (NoSuchFileException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_NOT_FOUND_ERROR,
+                    "The target directory does not exist: " + ex.getMessage());
+        } catch (IOException ex) {
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR,
+                    "An error occurred when synchronizing the file/s: " + ex.getMessage());
+        } finally {
+            MetaDataCache.invalidate(destPath);
+        }
+        Map<String, Object> summary = new HashMap<>();
+        summary.put(FileConstants.SYNC_FILES_COPIED, visitor.filesCopied());
+        summary.put(FileConstants.SYNC_BYTES_COPIED, visitor.bytesCopied());
+        summary.put(FileConstants.SYNC_FILES_SKIPPED, visitor.filesSkipped());
+        summary.put(FileConstants.SYNC_BYTES_SKIPPED, visitor.bytesSkipped());
+        summary.put(FileConstants.SYNC_FILES_DELETED, visitor.filesDeleted());
+        summary.put(FileConstants.SYNC_DIRS_DELETED, visitor.dirsDeleted());
+        summary.put(FileConstants.SYNC_BYTES_DELETED, visitor.bytesDeleted());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), FileConstants.SYNC_SUMMARY, summary);
+    }
+
     static class RecursiveFileCopyVisitor extends SimpleFileVisitor<Path> {
 
         final Path source;
         final Path target;
-        final CopyOption[] copyOptions;
+        final FileCopier copier;
 
-        RecursiveFileCopyVisitor(Path source, Path target, CopyOption... copyOptions) {
+        RecursiveFileCopyVisitor(Path source, Path target, FileCopier copier) {
             this.source = source;
             this.target = target;
-            this.copyOptions = copyOptions;
+            this.copier = copier;
         }
 
         @Override
         public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
             Path newDirectory = target.resolve(source.relativize(dir));
             try {
-                Files.copy(dir, newDirectory, copyOptions);
+                copier.copy(dir, newDirectory);
             } catch (Exception e) {
                 log.debug(e.getMessage());
+                copier.skipped(dir, e);
                 return SKIP_SUBTREE; // skip processing
             }
             return CONTINUE;
@@ -334,11 +1144,12 @@ public class Utils {
         public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
             Path newFile = target.resolve(source.relativize(file));
             try {
-                Files.copy(file, newFile, copyOptions);
+                copier.copy(file, newFile);
             } catch (NoSuchFileException e) {
                 throw e;
             } catch (Exception e) {
                 log.debug(e.getMessage());
+                copier.skipped(file, e);
                 return SKIP_SUBTREE; // skip processing
             }
             return CONTINUE;
@@ -349,28 +1160,57 @@ public class Utils {
 
         final Path source;
         final Path target;
-        final CopyOption[] copyOptions;
+        final FileCopier copier;
 
-        RecursiveDirCopyVisitor(Path source, Path target, CopyOption... copyOptions) {
+        RecursiveDirCopyVisitor(Path source, Path target, FileCopier copier) {
             this.source = source;
             this.target = target;
-            this.copyOptions = copyOptions;
+            this.copier = copier;
         }
 
         @Override
         public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-            Path targetPath = target.resolve(source.relativize(dir));
-            if (!Files.exists(targetPath)) {
-                Files.createDirectory(targetPath);
+            try {
+                copier.createDirectory(target.resolve(source.relativize(dir)));
+            } catch (IOException e) {
+                if (dir.equals(source)) {
+                    throw e;
+                }
+                return skip(dir, e, SKIP_SUBTREE);
             }
             return CONTINUE;
         }
 
         @Override
         public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-            Files.copy(file, target.resolve(source.relativize(file)), copyOptions);
+            try {
+                copier.copy(file, target.resolve(source.relativize(file)));
+            } catch (IOException e) {
+                return skip(file, e, CONTINUE);
+            }
             return CONTINUE;
         }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+            return skip(file, exc, CONTINUE);
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+            return exc != null ? skip(dir, exc, CONTINUE) : CONTINUE;
+        }
+
+        // The entries that cannot be copied are skipped only when they are recorded in the statistics, and fail the
+        // copy otherwise
+        private FileVisitResult skip(Path path, IOException e, FileVisitResult result) throws IOException {
+            if (!copier.recordsSkipped()) {
+                throw e;
+            }
+            log.debug(e.getMessage());
+            copier.skipped(path, e);
+            return result;
+        }
     }
 
     public static Object createTemp(Object suffix, Object prefix, Object dir) {
@@ -448,8 +1288,52 @@ public class Utils {
     }
 
     public static Object test(BString path, BString testOption) {
+        return test(path.getValue(), testOption.getValue());
+    }
+
+    public static Object testBatch(BArray paths, BString testOption) {
         String op = testOption.getValue();
-        Path strPath = Paths.get(path.getValue());
+        if (!TEST_OPTIONS.contains(op)) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, "Unsupported test option.");
+        }
+        String[] inputPaths = paths.getStringArray();
+        try {
+            Object[] results = WorkerPools.runBatch(inputPaths.length, i -> test(inputPaths[i], op));
+            return ValueCreator.createArrayValue(results, TEST_BATCH_TYPE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR, "Test batch interrupted");
+        }
+    }
+
+    private static Object test(String path, String op) {
+        Path strPath;
+        try {
+            strPath = Paths.get(path);
+        } catch (InvalidPathException e) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_PATH_ERROR, e);
+        }
+        if (MetaDataCache.isEnabled()) {
+            try {
+                MetaDataCache.FileStatus status = MetaDataCache.getStatus(strPath);
+                switch (op) {
+                    case FileConstants.EXISTS:
+                        return status.exists();
+                    case FileConstants.IS_DIR:
+                        return status.directory();
+                    case FileConstants.IS_SYMLINK:
+                        return status.symbolicLink();
+                    case FileConstants.READABLE:
+                        return status.readable();
+                    case FileConstants.WRITABLE:
+                        return status.writable();
+                    default:
+                        break;
+                }
+            } catch (IOException | SecurityException e) {
+                // The status could not be read, so the path is tested without the cache.
+            }
+        }
         try {
             switch(op) {
                 case FileConstants.EXISTS:
@@ -476,5 +1360,7 @@ public class Utils {
     private Utils() {}
 
     private record RecordField(String name, Type type) { }
+
+    private record TopKEntry(Path path, String name, BasicFileAttributes attrs) { }
 }
 
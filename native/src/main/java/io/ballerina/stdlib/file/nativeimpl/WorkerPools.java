@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Worker pools shared by the parallel file system operations of the file module. The pools are created on first use
+ * and their threads are daemon threads, so they never keep the program alive.
+ *
+ * @since 1.12.1
+ */
+final class WorkerPools {
+
+    private static final int IO_POOL_SIZE = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+    private static final int MIN_BATCH_CHUNK_SIZE = 64;
+
+    private WorkerPools() {
+    }
+
+    /**
+     * Returns the fork-join pool used to process directory trees in parallel.
+     *
+     * @return the shared fork-join pool
+     */
+    static ForkJoinPool forkJoinPool() {
+        return ForkJoinPoolHolder.POOL;
+    }
+
+    /**
+     * Returns the bounded pool used to overlap blocking file system calls on independent paths.
+     *
+     * @return the shared I/O pool
+     */
+    static ExecutorService ioPool() {
+        return IoPoolHolder.POOL;
+    }
+
+    /**
+     * Applies the task to each index of a batch on the I/O pool and returns the results in index order. The batch is
+     * split into chunks of consecutive indexes, and small batches are processed on the calling thread.
+     *
+     * @param size number of items in the batch
+     * @param task task computing the result of an index, which returns errors as values instead of throwing them
+     * @return the results of the batch
+     * @throws InterruptedException if the calling thread is interrupted while waiting for the results
+     */
+    static Object[] runBatch(int size, IntFunction<Object> task) throws InterruptedException {
+        Object[] results = new Object[size];
+        int chunks = Math.min(IO_POOL_SIZE, (size + MIN_BATCH_CHUNK_SIZE - 1) / MIN_BATCH_CHUNK_SIZE);
+        if (chunks <= 1) {
+            for (int i = 0; i < size; i++) {
+                results[i] = task.apply(i);
+            }
+            return results;
+        }
+        int chunkSize = (size + chunks - 1) / chunks;
+        List<Future<?>> futures = new ArrayList<>(chunks);
+        for (int start = 0; start < size; start += chunkSize) {
+            int from = start;
+            int to = Math.min(size, start + chunkSize);
+            futures.add(ioPool().submit(() -> {
+                for (int i = from; i < to; i++) {
+                    results[i] = task.apply(i);
+                }
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
+    private static class ForkJoinPoolHolder {
+        private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+                ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, false);
+    }
+
+    private static class IoPoolHolder {
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+        private static final ThreadPoolExecutor POOL = createPool();
+
+        private static ThreadPoolExecutor createPool() {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(IO_POOL_SIZE, IO_POOL_SIZE, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "file-io-worker-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+}
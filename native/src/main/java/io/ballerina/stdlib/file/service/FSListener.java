@@ -29,10 +29,13 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.file.utils.FileConstants;
+import io.ballerina.stdlib.file.utils.MetaDataCache;
 import io.ballerina.stdlib.file.utils.ModuleUtils;
 import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemEvent;
 import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemListener;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -52,6 +55,7 @@ public class FSListener implements LocalFileSystemListener {
 
     @Override
     public void onMessage(LocalFileSystemEvent fileEvent) {
+        invalidateMetaDataCache(fileEvent.getFileName());
         Thread.startVirtualThread(() -> {
             Object balFileEvent = createBallerinaFileEvent(fileEvent);
             for (Map.Entry<BObject, Map<String, MethodType>> serviceEntry: serviceRegistry.entrySet()) {
@@ -67,6 +71,16 @@ public class FSListener implements LocalFileSystemListener {
         });
     }
 
+    private static void invalidateMetaDataCache(String fileName) {
+        if (MetaDataCache.isEnabled()) {
+            try {
+                MetaDataCache.invalidate(Paths.get(fileName));
+            } catch (InvalidPathException e) {
+                MetaDataCache.invalidateAll();
+            }
+        }
+    }
+
     private Object createBallerinaFileEvent(LocalFileSystemEvent fileEvent) {
         BMap<BString, Object> eventStruct = ValueCreator.createRecordValue(ModuleUtils.getModule(), FILE_SYSTEM_EVENT);
         eventStruct.put(StringUtils.fromString(FileConstants.FILE_EVENT_NAME),
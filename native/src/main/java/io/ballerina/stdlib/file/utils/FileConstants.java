@@ -26,6 +26,19 @@ package io.ballerina.stdlib.file.utils;
  */
 public class FileConstants {
     public static final String METADATA = "MetaData";
+    public static final String DIR_PAGE = "DirPage";
+    public static final String METADATA_CACHE_STATS = "MetaDataCacheStats";
+    public static final String DISK_USAGE = "DiskUsage";
+    public static final String COPY_STATUS = "CopyStatus";
+    public static final String SYNC_SUMMARY = "SyncSummary";
+    public static final String OPERATION_STATS = "OperationStats";
+    public static final String SKIPPED_ENTRY = "SkippedEntry";
+    public static final String PHASE_TIME = "PhaseTime";
+    public static final String PURGE_RESULT = "PurgeResult";
+
+    // Native data keys
+    public static final String META_DATA_ITERATOR = "MetaDataIterator";
+    public static final String COPY_PROGRESS_COUNTER = "CopyProgressCounter";
 
     // File error type IDs
     public static final String INVALID_OPERATION_ERROR = "InvalidOperationError";
@@ -36,6 +49,8 @@ public class FileConstants {
     public static final String IO_ERROR = "IOError";
     public static final String SECURITY_ERROR = "SecurityError";
     public static final String INVALID_PATH_ERROR = "InvalidPathError";
+    public static final String INVALID_PATTERN_ERROR = "InvalidPatternError";
+    public static final String CHECKSUM_MISMATCH_ERROR = "ChecksumMismatchError";
     public static final String GENERIC_ERROR = "GenericError";
     static final String ERROR_DETAILS = "Detail";
     static final String ERROR_MESSAGE = "message";
@@ -54,6 +69,12 @@ public class FileConstants {
     public static final String READABLE = "READABLE";
     public static final String WRITABLE = "WRITABLE";
     public static final String RECURSIVE = "RECURSIVE";
+    public static final String SORT_KEY_SIZE = "SIZE";
+    public static final String SORT_KEY_MODIFIED_TIME = "MODIFIED_TIME";
+    public static final String SORT_KEY_NAME = "NAME";
+    public static final String DESCENDING = "DESCENDING";
+    public static final String CHECKSUM_SHA_256 = "SHA_256";
+    public static final String CHECKSUM_CRC32C = "CRC32C";
 
     // Metadata fields
 
@@ -64,6 +85,90 @@ public class FileConstants {
     public static final String META_DATA_READABLE = "readable";
     public static final String META_DATA_WRITABLE = "writable";
 
+    // DirPage fields
+
+    public static final String DIR_PAGE_ENTRIES = "entries";
+    public static final String DIR_PAGE_CURSOR = "cursor";
+
+    // CopyConfig fields
+
+    public static final String COPY_OPTIONS = "options";
+    public static final String COPY_PARALLELISM = "parallelism";
+    public static final String COPY_METHOD = "method";
+    public static final String COPY_CHUNK_SIZE = "chunkSize";
+    public static final String COPY_PROGRESS = "progress";
+    public static final String COPY_DURABILITY = "durability";
+
+    // RemoveConfig fields
+
+    public static final String REMOVE_OPTION = "option";
+    public static final String REMOVE_PARALLELISM = "parallelism";
+
+    // TrashConfig fields
+
+    public static final String TRASH_BATCH_SIZE = "batchSize";
+    public static final String TRASH_BATCH_PAUSE = "batchPause";
+
+    // GroupCommitConfig fields
+
+    public static final String GROUP_COMMIT_MAX_FILES = "maxFiles";
+    public static final String GROUP_COMMIT_MAX_DELAY = "maxDelay";
+
+    // SyncOptions and SyncSummary fields
+
+    public static final String SYNC_CHECKSUM = "checksum";
+    public static final String SYNC_DELETE = "delete";
+    public static final String SYNC_FILES_COPIED = "filesCopied";
+    public static final String SYNC_BYTES_COPIED = "bytesCopied";
+    public static final String SYNC_FILES_SKIPPED = "filesSkipped";
+    public static final String SYNC_BYTES_SKIPPED = "bytesSkipped";
+    public static final String SYNC_FILES_DELETED = "filesDeleted";
+    public static final String SYNC_DIRS_DELETED = "dirsDeleted";
+    public static final String SYNC_BYTES_DELETED = "bytesDeleted";
+
+    // OperationStats, SkippedEntry and PhaseTime fields
+
+    public static final String STATS_FILES = "files";
+    public static final String STATS_DIRS = "dirs";
+    public static final String STATS_BYTES = "bytes";
+    public static final String STATS_SKIPPED = "skipped";
+    public static final String STATS_PHASES = "phases";
+    public static final String STATS_ELAPSED_TIME = "elapsedTime";
+    public static final String STATS_REASON = "reason";
+    public static final String STATS_NAME = "name";
+
+    // Operation phases
+
+    public static final String PHASE_SCAN = "scan";
+    public static final String PHASE_COPY = "copy";
+    public static final String PHASE_REMOVE = "remove";
+
+    // PurgeOptions and PurgeResult fields
+
+    public static final String PURGE_OLDER_THAN = "olderThan";
+    public static final String PURGE_PATTERN = "pattern";
+    public static final String PURGE_MAX_BYTES = "maxBytes";
+    public static final String PURGE_RECURSIVE = "recursive";
+    public static final String PURGE_FILES_SCANNED = "filesScanned";
+    public static final String PURGE_FILES_DELETED = "filesDeleted";
+    public static final String PURGE_BYTES_RECLAIMED = "bytesReclaimed";
+
+    // DiskUsage fields
+
+    public static final String DISK_USAGE_FILE_COUNT = "fileCount";
+    public static final String DISK_USAGE_DIR_COUNT = "dirCount";
+    public static final String DISK_USAGE_SKIPPED_COUNT = "skippedCount";
+    public static final String DISK_USAGE_DEPTH = "depth";
+
+    // MetaDataCacheConfig and MetaDataCacheStats fields
+
+    public static final String CACHE_MAX_ENTRIES = "maxEntries";
+    public static final String CACHE_TTL = "ttl";
+    public static final String CACHE_HITS = "hits";
+    public static final String CACHE_MISSES = "misses";
+    public static final String CACHE_EVICTIONS = "evictions";
+    public static final String CACHE_EXPIRATIONS = "expirations";
+
     // FileEvent struct field names
     public static final String FILE_EVENT_NAME = "name";
 
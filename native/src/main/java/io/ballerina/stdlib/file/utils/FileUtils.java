@@ -18,18 +18,25 @@
 package io.ballerina.stdlib.file.utils;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.time.util.TimeValueHandler;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.AccessMode;
 import java.nio.file.Files;
-import java.nio.file.attribute.FileTime;
-import java.util.HashMap;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -39,6 +46,33 @@ public class FileUtils {
 
     private static final String UNKNOWN_MESSAGE = "Unknown Error";
 
+    // This represents the `MetaData` record in file_meta_data.bal file. Any changes to that type must be reflected
+    // here as well. The records are created directly with this type and the pre-built keys below, rather than looking
+    // the type up by name and copying the fields from an intermediate map for every record.
+    public static final RecordType METADATA_TYPE = TypeCreator.createRecordType(FileConstants.METADATA,
+            ModuleUtils.getModule(), 0, Map.of(
+                    FileConstants.ABS_PATH, createField(FileConstants.ABS_PATH, PredefinedTypes.TYPE_STRING),
+                    FileConstants.SIZE, createField(FileConstants.SIZE, PredefinedTypes.TYPE_INT),
+                    // time:Utc
+                    FileConstants.MODIFIED_TIME, createField(FileConstants.MODIFIED_TIME,
+                            TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_DECIMAL),
+                                    PredefinedTypes.TYPE_NEVER, 0, true)),
+                    FileConstants.DIR, createField(FileConstants.DIR, PredefinedTypes.TYPE_BOOLEAN),
+                    FileConstants.META_DATA_READABLE, createField(FileConstants.META_DATA_READABLE,
+                            PredefinedTypes.TYPE_BOOLEAN),
+                    FileConstants.META_DATA_WRITABLE, createField(FileConstants.META_DATA_WRITABLE,
+                            PredefinedTypes.TYPE_BOOLEAN)),
+            PredefinedTypes.TYPE_NEVER, true, 0);
+    private static final BString ABS_PATH_KEY = StringUtils.fromString(FileConstants.ABS_PATH);
+    private static final BString SIZE_KEY = StringUtils.fromString(FileConstants.SIZE);
+    private static final BString MODIFIED_TIME_KEY = StringUtils.fromString(FileConstants.MODIFIED_TIME);
+    private static final BString DIR_KEY = StringUtils.fromString(FileConstants.DIR);
+    private static final BString READABLE_KEY = StringUtils.fromString(FileConstants.META_DATA_READABLE);
+    private static final BString WRITABLE_KEY = StringUtils.fromString(FileConstants.META_DATA_WRITABLE);
+    // A `time:Utc` value is immutable, so a single zero value is shared by the records that do not select the modified
+    // time, and the time conversion is skipped for them
+    private static final BArray ZERO_UTC = TimeValueHandler.createUtcFromMilliSeconds(0);
+
     /**
      * Returns error object for input reason.
      * Error type is generic ballerina error type. This utility to construct error object from message.
@@ -67,20 +101,119 @@ public class FileUtils {
                         message : UNKNOWN_MESSAGE), null, null);
     }
 
-    public static Object getMetaData(File inputFile) throws IOException {
-        BMap<BString, Object> lastModifiedInstance;
-        FileTime lastModified = Files.getLastModifiedTime(inputFile.toPath());
-        Map<String, Object> metadataRecord = new HashMap<>();
-        metadataRecord.put(FileConstants.ABS_PATH, inputFile.getAbsolutePath());
-        metadataRecord.put(FileConstants.SIZE, inputFile.length());
-        metadataRecord.put(FileConstants.MODIFIED_TIME, TimeValueHandler.
-                createUtcFromMilliSeconds(lastModified.toMillis()));
-        metadataRecord.put(FileConstants.DIR, inputFile.isDirectory());
-        metadataRecord.put(FileConstants.META_DATA_READABLE, Files.isReadable(inputFile.toPath()));
-        metadataRecord.put(FileConstants.META_DATA_WRITABLE, Files.isWritable(inputFile.toPath()));
-        return ValueCreator.createRecordValue(ModuleUtils.getModule(), FileConstants.METADATA, metadataRecord);
+    /**
+     * Returns the `MetaData` record of the given path. The attributes are read with a single bulk attribute read
+     * and the permissions with a single access check.
+     *
+     * @param path path of the file or directory, following symbolic links
+     * @return `MetaData` record
+     * @throws IOException if the attributes of the file cannot be read
+     */
+    public static BMap<BString, Object> getMetaData(Path path) throws IOException {
+        return getMetaData(path, MetaDataFields.ALL);
     }
 
+    /**
+     * Returns the `MetaData` record of the given path populating only the selected fields. The attributes of the
+     * file are not read unless a field derived from them is selected.
+     *
+     * @param path   path of the file or directory, following symbolic links
+     * @param fields fields to be populated
+     * @return `MetaData` record
+     * @throws IOException if the attributes of the file cannot be read
+     */
+    public static BMap<BString, Object> getMetaData(Path path, MetaDataFields fields) throws IOException {
+        BasicFileAttributes attrs = fields.needsAttributes() ?
+                Files.readAttributes(path, BasicFileAttributes.class) : null;
+        return getMetaData(path, attrs, fields);
+    }
+
+    /**
+     * Returns the `MetaData` record of the given path reusing attributes that were already read, for example by a
+     * file tree walker.
+     *
+     * @param path  path of the file or directory
+     * @param attrs attributes of the file or directory
+     * @return `MetaData` record
+     */
+    public static BMap<BString, Object> getMetaData(Path path, BasicFileAttributes attrs) {
+        return getMetaData(path, attrs, MetaDataFields.ALL);
+    }
+
+    /**
+     * Returns the `MetaData` record of the given path populating only the selected fields. Fields that are not
+     * selected are set to their zero values, and neither the file system nor the time conversion is invoked for them.
+     *
+     * @param path   path of the file or directory
+     * @param attrs  attributes of the file or directory, which may be {@code null} if no field derived from the
+     *               attributes is selected
+     * @param fields fields to be populated
+     * @return `MetaData` record
+     */
+    public static BMap<BString, Object> getMetaData(Path path, BasicFileAttributes attrs, MetaDataFields fields) {
+        FileAccess access = checkAccess(path, fields.readable(), fields.writable());
+        BArray modifiedTime = fields.modifiedTime() ?
+                TimeValueHandler.createUtcFromMilliSeconds(attrs.lastModifiedTime().toMillis()) : ZERO_UTC;
+        return createMetaData(path, fields.size() ? attrs.size() : 0L, modifiedTime,
+                fields.dir() && attrs.isDirectory(), access.readable(), access.writable());
+    }
+
+    /**
+     * Returns the `MetaData` record of the given path from a status that was already read, for example from the
+     * metadata cache. Fields that are not selected are set to their zero values, and the time conversion is not invoked
+     * for them.
+     *
+     * @param path   path of the file or directory
+     * @param status status of the file or directory
+     * @param fields fields to be populated
+     * @return `MetaData` record
+     */
+    public static BMap<BString, Object> getMetaData(Path path, MetaDataCache.FileStatus status,
+                                                    MetaDataFields fields) {
+        return createMetaData(path, fields.size() ? status.size() : 0L,
+                fields.modifiedTime() ? TimeValueHandler.createUtcFromMilliSeconds(status.modifiedTime()) : ZERO_UTC,
+                fields.dir() && status.directory(),
+                fields.readable() && status.readable(), fields.writable() && status.writable());
+    }
+
+    private static BMap<BString, Object> createMetaData(Path path, long size, BArray modifiedTime, boolean dir,
+                                                        boolean readable, boolean writable) {
+        BMap<BString, Object> metadataRecord = ValueCreator.createMapValue(METADATA_TYPE);
+        metadataRecord.put(ABS_PATH_KEY, StringUtils.fromString(path.toAbsolutePath().toString()));
+        metadataRecord.put(SIZE_KEY, size);
+        metadataRecord.put(MODIFIED_TIME_KEY, modifiedTime);
+        metadataRecord.put(DIR_KEY, dir);
+        metadataRecord.put(READABLE_KEY, readable);
+        metadataRecord.put(WRITABLE_KEY, writable);
+        return metadataRecord;
+    }
+
+    private static Field createField(String name, Type type) {
+        return TypeCreator.createField(type, name, 0);
+    }
+
+    /**
+     * Checks whether the given path is readable and writable. Both permissions are checked with a single access
+     * check, and they are only checked separately when the file is not both readable and writable.
+     *
+     * @param path path of the file or directory
+     * @return read and write permissions of the path
+     */
+    public static FileAccess checkAccess(Path path) {
+        try {
+            path.getFileSystem().provider().checkAccess(path, AccessMode.READ, AccessMode.WRITE);
+            return FileAccess.READ_WRITE;
+        } catch (IOException | SecurityException e) {
+            return new FileAccess(Files.isReadable(path), Files.isWritable(path));
+        }
+    }
+
+    private static FileAccess checkAccess(Path path, boolean readable, boolean writable) {
+        if (readable && writable) {
+            return checkAccess(path);
+        }
+        return new FileAccess(readable && Files.isReadable(path), writable && Files.isWritable(path));
+    }
 
     /**
      * Returns the system property which corresponds to the given key.
@@ -119,4 +252,14 @@ public class FileUtils {
 
     private FileUtils() {
     }
+
+    /**
+     * Read and write permissions of a file.
+     *
+     * @param readable whether the file is readable
+     * @param writable whether the file is writable
+     */
+    public record FileAccess(boolean readable, boolean writable) {
+        static final FileAccess READ_WRITE = new FileAccess(true, true);
+    }
 }
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in, size-bounded cache of the file status used by `getMetaData` and `test`. Once the cache is full, entries are
+ * evicted in approximately least recently used order, giving recently read entries a second chance, and they expire
+ * after a fixed time to live. The entries of a path are also invalidated when the path is modified through the file
+ * module or when a file system listener reports an event for it.
+ * <p>
+ * Entries are kept in a sorted concurrent map so that the entries below a path are found with a range lookup, and no
+ * global lock is taken. A status read from the file system is stored only if the pending entry put before the read is
+ * still in place, so an invalidation that happens while the status is read is not lost.
+ *
+ * @since 1.12.1
+ */
+public final class MetaDataCache {
+
+    private static volatile MetaDataCache instance;
+
+    private final ConcurrentSkipListMap<Path, CachedStatus> entries = new ConcurrentSkipListMap<>();
+    private final Queue<CachedStatus> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private MetaDataCache(int maxEntries, long ttlNanos) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+    }
+
+    /**
+     * Enables the cache, replacing the existing cache and its entries if it is already enabled.
+     *
+     * @param maxEntries maximum number of paths held by the cache
+     * @param ttlNanos   time to live of an entry in nanoseconds
+     */
+    public static void enable(int maxEntries, long ttlNanos) {
+        instance = new MetaDataCache(maxEntries, ttlNanos);
+    }
+
+    /**
+     * Disables the cache and drops its entries.
+     */
+    public static void disable() {
+        instance = null;
+    }
+
+    /**
+     * Returns whether the cache is enabled.
+     *
+     * @return true if the cache is enabled
+     */
+    public static boolean isEnabled() {
+        return instance != null;
+    }
+
+    /**
+     * Returns the status of the given path, reading it from the file system on a cache miss.
+     *
+     * @param path path of the file or directory
+     * @return the status of the path
+     * @throws IOException if the status of the path cannot be read, in which case nothing is cached
+     */
+    public static FileStatus getStatus(Path path) throws IOException {
+        MetaDataCache cache = instance;
+        if (cache == null) {
+            return FileStatus.read(path);
+        }
+        Path key = toKey(path);
+        FileStatus status = cache.lookup(key);
+        if (status != null) {
+            return status;
+        }
+        CachedStatus pending = cache.putPending(key);
+        try {
+            status = FileStatus.read(key);
+        } catch (IOException e) {
+            cache.entries.remove(key, pending);
+            throw e;
+        }
+        cache.store(key, pending, status);
+        return status;
+    }
+
+    /**
+     * Invalidates the entries of the given path, the entries below it and the entries of its ancestors. The parent
+     * directory changes along with its entries, and the other ancestors may have been created along with the path.
+     * This is a no-op if the cache is disabled.
+     *
+     * @param path modified path
+     */
+    public static void invalidate(Path path) {
+        MetaDataCache cache = instance;
+        if (cache != null) {
+            cache.remove(toKey(path));
+        }
+    }
+
+    /**
+     * Drops all the entries of the cache. This is a no-op if the cache is disabled.
+     */
+    public static void invalidateAll() {
+        MetaDataCache cache = instance;
+        if (cache != null) {
+            for (Map.Entry<Path, CachedStatus> entry : cache.entries.entrySet()) {
+                cache.discard(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the counters of the cache, or {@code null} if the cache is disabled.
+     *
+     * @return the cache statistics
+     */
+    public static Stats getStats() {
+        MetaDataCache cache = instance;
+        if (cache == null) {
+            return null;
+        }
+        return new Stats(cache.hits.sum(), cache.misses.sum(), cache.evictions.sum(), cache.expirations.sum(),
+                cache.size.get());
+    }
+
+    private static Path toKey(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    private FileStatus lookup(Path key) {
+        CachedStatus cached = entries.get(key);
+        if (cached == null || cached.status == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - cached.expiresAt >= 0) {
+            if (discard(key, cached)) {
+                expirations.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        cached.referenced = true;
+        hits.increment();
+        return cached.status;
+    }
+
+    private CachedStatus putPending(Path key) {
+        CachedStatus pending = new CachedStatus(key, null, 0);
+        CachedStatus previous = entries.put(key, pending);
+        if (previous != null && previous.status != null) {
+            size.decrementAndGet();
+        }
+        return pending;
+    }
+
+    private void store(Path key, CachedStatus pending, FileStatus status) {
+        CachedStatus cached = new CachedStatus(key, status, System.nanoTime() + ttlNanos);
+        if (!entries.replace(key, pending, cached)) {
+            // The path was invalidated while its status was read.
+            return;
+        }
+        size.incrementAndGet();
+        evictionQueue.offer(cached);
+        if (queued.incrementAndGet() > 2 * maxEntries) {
+            // Drop the queued entries that were invalidated or replaced since they were stored.
+            evictionQueue.removeIf(queuedStatus -> entries.get(queuedStatus.key) != queuedStatus);
+            queued.set(evictionQueue.size());
+        }
+        while (size.get() > maxEntries) {
+            CachedStatus candidate = evictionQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+            queued.decrementAndGet();
+            if (entries.get(candidate.key) != candidate) {
+                continue;
+            }
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                evictionQueue.offer(candidate);
+                queued.incrementAndGet();
+            } else if (discard(candidate.key, candidate)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private void remove(Path key) {
+        CachedStatus removed = entries.remove(key);
+        if (removed != null && removed.status != null) {
+            size.decrementAndGet();
+        }
+        for (Map.Entry<Path, CachedStatus> entry : descendants(key).entrySet()) {
+            if (entry.getKey().startsWith(key)) {
+                discard(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Path ancestor = key.getParent(); ancestor != null; ancestor = ancestor.getParent()) {
+            removed = entries.remove(ancestor);
+            if (removed != null && removed.status != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the range of the entries that holds the paths below the given path. The paths below {@code /a} sort
+     * between {@code /a} and the sibling formed by appending the character after the separator, {@code /a0}. The
+     * range may also hold a few siblings such as {@code /a-b}, so the caller still checks each path.
+     */
+    private NavigableMap<Path, CachedStatus> descendants(Path key) {
+        Path name = key.getFileName();
+        if (name == null) {
+            return entries.tailMap(key, false);
+        }
+        char afterSeparator = (char) (key.getFileSystem().getSeparator().charAt(0) + 1);
+        return entries.subMap(key, false, key.resolveSibling(name.toString() + afterSeparator), false);
+    }
+
+    private boolean discard(Path key, CachedStatus cached) {
+        if (!entries.remove(key, cached)) {
+            return false;
+        }
+        if (cached.status != null) {
+            size.decrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * Cached status of a path. A pending entry, which has no status, is put before the status is read from the file
+     * system, and entries are compared by identity so that a pending entry is replaced only by the read that put it.
+     */
+    private static final class CachedStatus {
+
+        private final Path key;
+        private final FileStatus status;
+        private final long expiresAt;
+        private volatile boolean referenced;
+
+        private CachedStatus(Path key, FileStatus status, long expiresAt) {
+            this.key = key;
+            this.status = status;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Status of a path as seen by `getMetaData` and `test`. Symbolic links are followed, except for the symbolic
+     * link flag itself.
+     *
+     * @param exists       whether the path exists
+     * @param symbolicLink whether the path is a symbolic link
+     * @param directory    whether the path is a directory
+     * @param size         size of the file in bytes
+     * @param modifiedTime last modified time in milliseconds since the epoch
+     * @param readable     whether the path is readable
+     * @param writable     whether the path is writable
+     */
+    public record FileStatus(boolean exists, boolean symbolicLink, boolean directory, long size, long modifiedTime,
+                             boolean readable, boolean writable) {
+
+        private static final FileStatus MISSING = new FileStatus(false, false, false, 0, 0, false, false);
+
+        static FileStatus read(Path path) throws IOException {
+            BasicFileAttributes attrs;
+            try {
+                attrs = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (NoSuchFileException e) {
+                return MISSING;
+            }
+            boolean symbolicLink = attrs.isSymbolicLink();
+            if (symbolicLink) {
+                try {
+                    attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (NoSuchFileException e) {
+                    return new FileStatus(false, true, false, 0, 0, false, false);
+                }
+            }
+            FileUtils.FileAccess access = FileUtils.checkAccess(path);
+            return new FileStatus(true, symbolicLink, attrs.isDirectory(), attrs.size(),
+                    attrs.lastModifiedTime().toMillis(), access.readable(), access.writable());
+        }
+    }
+
+    /**
+     * Counters of the cache.
+     *
+     * @param hits        number of lookups served from the cache
+     * @param misses      number of lookups that read the file system
+     * @param evictions   number of entries evicted to keep the cache within its size
+     * @param expirations number of entries dropped once their time to live elapsed
+     * @param size        current number of entries
+     */
+    public record Stats(long hits, long misses, long evictions, long expirations, int size) {
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.utils;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Native representation of the `MetaDataOptions` record, which selects the fields of the `MetaData` record to be
+ * populated. The absolute path is always populated.
+ *
+ * @param size         whether the size is populated
+ * @param modifiedTime whether the last modified time is populated
+ * @param dir          whether the directory flag is populated
+ * @param readable     whether the read permission is populated
+ * @param writable     whether the write permission is populated
+ * @since 1.12.1
+ */
+public record MetaDataFields(boolean size, boolean modifiedTime, boolean dir, boolean readable, boolean writable) {
+
+    public static final MetaDataFields ALL = new MetaDataFields(true, true, true, true, true);
+
+    /**
+     * Creates the field selection from a `MetaDataOptions` record.
+     *
+     * @param options `MetaDataOptions` record
+     * @return the selected fields
+     */
+    public static MetaDataFields from(BMap<BString, Object> options) {
+        return new MetaDataFields(options.getBooleanValue(StringUtils.fromString(FileConstants.SIZE)),
+                options.getBooleanValue(StringUtils.fromString(FileConstants.MODIFIED_TIME)),
+                options.getBooleanValue(StringUtils.fromString(FileConstants.DIR)),
+                options.getBooleanValue(StringUtils.fromString(FileConstants.META_DATA_READABLE)),
+                options.getBooleanValue(StringUtils.fromString(FileConstants.META_DATA_WRITABLE)));
+    }
+
+    /**
+     * Returns whether any of the selected fields is derived from the attributes of the file.
+     *
+     * @return true if the attributes of the file need to be read
+     */
+    public boolean needsAttributes() {
+        return size || modifiedTime || dir;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.file.nativeimpl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests moving entries by copying them, as done across file systems, on a single file system.
+ */
+public class CrossDeviceMoveTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testMoveTreeByCopying() throws IOException {
+        Path source = tempDir.resolve("source");
+        Path nested = Files.createDirectories(source.resolve("nested"));
+        Files.writeString(nested.resolve("file.txt"), "content");
+        FileTime modifiedTime = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(nested, modifiedTime);
+        boolean posix = isPosix();
+        if (posix) {
+            Files.createSymbolicLink(source.resolve("link"), Path.of("nested/file.txt"));
+        }
+        Path target = tempDir.resolve("target");
+
+        CrossDeviceMove.move(source, target, false);
+
+        Assertions.assertFalse(Files.exists(source, LinkOption.NOFOLLOW_LINKS));
+        Assertions.assertEquals("content", Files.readString(target.resolve("nested/file.txt")));
+        Assertions.assertEquals(modifiedTime, Files.getLastModifiedTime(target.resolve("nested")));
+        if (posix) {
+            Assertions.assertEquals(Path.of("nested/file.txt"), Files.readSymbolicLink(target.resolve("link")));
+        }
+        Assertions.assertEquals(List.of(target), listTempDir());
+    }
+
+    @Test
+    public void testMoveFileByCopying() throws IOException {
+        Path source = Files.writeString(tempDir.resolve("source.txt"), "content");
+        Path target = tempDir.resolve("target.txt");
+
+        CrossDeviceMove.move(source, target, false);
+
+        Assertions.assertFalse(Files.exists(source));
+        Assertions.assertEquals("content", Files.readString(target));
+        Assertions.assertEquals(List.of(target), listTempDir());
+    }
+
+    @Test
+    public void testMoveToExistingTarget() throws IOException {
+        Path source = Files.writeString(tempDir.resolve("source.txt"), "content");
+        Path target = Files.writeString(tempDir.resolve("target.txt"), "existing");
+
+        Assertions.assertThrows(FileAlreadyExistsException.class, () -> CrossDeviceMove.move(source, target, false));
+        Assertions.assertEquals("content", Files.readString(source));
+        Assertions.assertEquals("existing", Files.readString(target));
+    }
+
+    @Test
+    public void testPublishDoesNotReplaceCreatedEntries() throws IOException {
+        Path tempFile = Files.writeString(tempDir.resolve("temp.txt"), "content");
+        Path createdFile = Files.writeString(tempDir.resolve("created.txt"), "");
+        Assertions.assertThrows(FileAlreadyExistsException.class,
+                () -> CrossDeviceMove.publish(tempFile, createdFile, readAttributes(tempFile)));
+        Assertions.assertEquals("", Files.readString(createdFile));
+
+        Path tempDirCopy = Files.createDirectory(tempDir.resolve("temp-dir"));
+        Path createdDir = Files.createDirectory(tempDir.resolve("created-dir"));
+        Assertions.assertThrows(FileAlreadyExistsException.class,
+                () -> CrossDeviceMove.publish(tempDirCopy, createdDir, readAttributes(tempDirCopy)));
+        Assertions.assertTrue(Files.isDirectory(tempDirCopy));
+        Assertions.assertTrue(Files.isDirectory(createdDir));
+    }
+
+    @Test
+    public void testFailedCopyIsRemoved() throws IOException {
+        Assumptions.assumeTrue(isPosix());
+        Path source = Files.createDirectories(tempDir.resolve("source"));
+        Files.writeString(source.resolve("readable.txt"), "content");
+        Path unreadable = Files.writeString(source.resolve("unreadable.txt"), "content");
+        Files.setPosixFilePermissions(unreadable, PosixFilePermissions.fromString("---------"));
+        Assumptions.assumeFalse(Files.isReadable(unreadable), "Permissions are not enforced for this user");
+        Path target = tempDir.resolve("target");
+
+        try {
+            Assertions.assertThrows(IOException.class, () -> CrossDeviceMove.move(source, target, false));
+            Assertions.assertEquals(List.of(source), listTempDir());
+            Assertions.assertEquals("content", Files.readString(source.resolve("readable.txt")));
+        } finally {
+            Files.setPosixFilePermissions(unreadable, PosixFilePermissions.fromString("rw-------"));
+        }
+    }
+
+    @Test
+    public void testPartiallyRemovedSourceIsReported() throws IOException {
+        Assumptions.assumeTrue(isPosix());
+        Path source = tempDir.resolve("source");
+        Path locked = Files.createDirectories(source.resolve("locked"));
+        Files.writeString(locked.resolve("file.txt"), "content");
+        Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("r-x------"));
+        Assumptions.assumeFalse(Files.isWritable(locked), "Permissions are not enforced for this user");
+        Path target = tempDir.resolve("target");
+
+        try {
+            IOException e = Assertions.assertThrows(IOException.class,
+                    () -> CrossDeviceMove.move(source, target, false));
+            Assertions.assertTrue(e.getMessage().startsWith("Created " + target + ", but " + source +
+                    " was only partially removed"), e.getMessage());
+            Assertions.assertEquals("content", Files.readString(target.resolve("locked/file.txt")));
+            Assertions.assertEquals(PosixFilePermissions.fromString("r-x------"),
+                    Files.getPosixFilePermissions(target.resolve("locked")));
+        } finally {
+            Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("rwx------"));
+            if (Files.exists(target)) {
+                Files.setPosixFilePermissions(target.resolve("locked"), PosixFilePermissions.fromString("rwx------"));
+            }
+        }
+    }
+
+    private List<Path> listTempDir() throws IOException {
+        try (Stream<Path> entries = Files.list(tempDir)) {
+            return entries.toList();
+        }
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) throws IOException {
+        return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+    }
+
+    private boolean isPosix() {
+        return tempDir.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.file.nativeimpl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.CopyOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Tests the copy methods of the file copier.
+ */
+public class FileCopierTest {
+
+    private static final String CONTENT = "0123456789abcdef";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testTransferFailsWhenSourceShrinks() throws IOException {
+        Path source = Files.writeString(tempDir.resolve("source.txt"), CONTENT);
+        Path target = tempDir.resolve("target.txt");
+        FileCopier copier = new FileCopier(new CopyOption[0], FileCopier.Method.TRANSFER, 4,
+                new TruncatingProgress(source, 6), null, Durability.NONE);
+
+        IOException e = Assertions.assertThrows(IOException.class, () -> copier.copy(source, target));
+
+        Assertions.assertEquals("Source " + source + " was truncated while it was being copied: expected 16 bytes, " +
+                "but it has 6 bytes", e.getMessage());
+        Assertions.assertFalse(Files.exists(target));
+    }
+
+    @Test
+    public void testResumableCopyFailsWhenSourceShrinks() throws IOException {
+        Path source = Files.writeString(tempDir.resolve("source.txt"), CONTENT);
+        Path target = tempDir.resolve("target.txt");
+        FileCopier copier = new FileCopier(new CopyOption[0], FileCopier.Method.RESUMABLE, 4,
+                new TruncatingProgress(source, 6), null, Durability.NONE);
+
+        IOException e = Assertions.assertThrows(IOException.class, () -> copier.copy(source, target));
+
+        Assertions.assertEquals("Source " + source + " was truncated while it was being copied: expected 16 bytes, " +
+                "but it has 6 bytes", e.getMessage());
+        Assertions.assertTrue(Files.exists(ResumableCopy.checkpointOf(target)));
+        // The checkpoint does not match the truncated source, so the next attempt starts over.
+        new FileCopier(new CopyOption[0], FileCopier.Method.RESUMABLE, 4, null, null, Durability.NONE)
+                .copy(source, target);
+        Assertions.assertEquals(CONTENT.substring(0, 6), Files.readString(target));
+        Assertions.assertFalse(Files.exists(ResumableCopy.checkpointOf(target)));
+    }
+
+    /**
+     * Truncates the source once the first bytes are copied.
+     */
+    private static class TruncatingProgress extends CopyProgressCounter {
+
+        private final Path source;
+        private final long size;
+
+        TruncatingProgress(Path source, long size) {
+            this.source = source;
+            this.size = size;
+        }
+
+        @Override
+        void addBytes(long bytes) {
+            super.addBytes(bytes);
+            try (FileChannel channel = FileChannel.open(source, StandardOpenOption.WRITE)) {
+                channel.truncate(size);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.file.nativeimpl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the reporting of the failures to synchronize a group commit.
+ */
+public class GroupCommitterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void restoreConfiguration() throws IOException {
+        GroupCommitter.configure(1000, TimeUnit.MILLISECONDS.toNanos(100));
+        GroupCommitter.flush();
+    }
+
+    @Test
+    public void testFailureIsReportedToItsGroupAndTheNextFlush() throws IOException {
+        Assumptions.assumeTrue(tempDir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Path unreadable = Files.writeString(tempDir.resolve("unreadable.txt"), "content");
+        Files.setPosixFilePermissions(unreadable, PosixFilePermissions.fromString("-w-------"));
+        Assumptions.assumeFalse(Files.isReadable(unreadable), "Permissions are not enforced for this user");
+        GroupCommitter.flush();
+        // Every entry completes its own group.
+        GroupCommitter.configure(1, TimeUnit.SECONDS.toNanos(10));
+
+        Assertions.assertThrows(AccessDeniedException.class, () -> GroupCommitter.add(unreadable));
+        GroupCommitter.add(Files.writeString(tempDir.resolve("readable.txt"), "content"));
+        IOException e = Assertions.assertThrows(IOException.class, GroupCommitter::flush);
+        Assertions.assertTrue(e.getCause() instanceof AccessDeniedException, e.getMessage());
+        GroupCommitter.flush();
+    }
+
+    @Test
+    public void testFailureOfFlushedGroupIsReportedOnce() throws IOException {
+        Assumptions.assumeTrue(tempDir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Path unreadable = Files.writeString(tempDir.resolve("unreadable.txt"), "content");
+        Files.setPosixFilePermissions(unreadable, PosixFilePermissions.fromString("-w-------"));
+        Assumptions.assumeFalse(Files.isReadable(unreadable), "Permissions are not enforced for this user");
+        GroupCommitter.flush();
+
+        GroupCommitter.add(unreadable);
+        Assertions.assertThrows(AccessDeniedException.class, GroupCommitter::flush);
+        GroupCommitter.add(Files.writeString(tempDir.resolve("readable.txt"), "content"));
+        GroupCommitter.flush();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.file.nativeimpl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Tests synchronizing a tree with symbolic links.
+ */
+public class SyncVisitorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testUnchangedLinkIsSkipped() throws IOException {
+        Path source = Files.createDirectory(tempDir.resolve("source"));
+        Path target = tempDir.resolve("target");
+        Files.writeString(source.resolve("file.txt"), "Hello");
+        Files.createSymbolicLink(source.resolve("link"), Paths.get("file.txt"));
+
+        SyncVisitor visitor = sync(source, target);
+        Assertions.assertEquals(2, visitor.filesCopied());
+        Assertions.assertTrue(Files.isSymbolicLink(target.resolve("link")));
+        Assertions.assertEquals(Paths.get("file.txt"), Files.readSymbolicLink(target.resolve("link")));
+
+        visitor = sync(source, target);
+        Assertions.assertEquals(0, visitor.filesCopied());
+        Assertions.assertEquals(2, visitor.filesSkipped());
+    }
+
+    @Test
+    public void testChangedLinkIsCopied() throws IOException {
+        Path source = Files.createDirectory(tempDir.resolve("source"));
+        Path target = tempDir.resolve("target");
+        Files.createSymbolicLink(source.resolve("link"), Paths.get("old.txt"));
+        sync(source, target);
+
+        Files.delete(source.resolve("link"));
+        Files.createSymbolicLink(source.resolve("link"), Paths.get("new.txt"));
+        SyncVisitor visitor = sync(source, target);
+
+        Assertions.assertEquals(1, visitor.filesCopied());
+        Assertions.assertEquals(Paths.get("new.txt"), Files.readSymbolicLink(target.resolve("link")));
+    }
+
+    private static SyncVisitor sync(Path source, Path target) throws IOException {
+        SyncVisitor visitor = new SyncVisitor(source, target, false, false);
+        Files.walkFileTree(source, visitor);
+        return visitor;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.file.nativeimpl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.CopyOption;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+
+/**
+ * Tests the sequential and parallel copies of a directory tree with an entry that cannot be copied.
+ */
+public class TreeCopyTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path source;
+    private Path locked;
+
+    @BeforeEach
+    public void createTree() throws IOException {
+        Assumptions.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        source = Files.createDirectory(tempDir.resolve("source"));
+        Files.writeString(source.resolve("a.txt"), "a");
+        Path nested = Files.createDirectory(source.resolve("nested"));
+        Files.writeString(nested.resolve("b.txt"), "bb");
+        locked = Files.createDirectory(source.resolve("locked"));
+        Files.writeString(locked.resolve("c.txt"), "ccc");
+        Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("-wx------"));
+        Assumptions.assumeFalse(Files.isReadable(locked), "Permissions are not enforced for this user");
+    }
+
+    @AfterEach
+    public void unlockTree() throws IOException {
+        if (locked != null) {
+            Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("rwx------"));
+        }
+    }
+
+    @Test
+    public void testSequentialCopySkipsUnreadableDirectory() throws IOException {
+        OperationStatsCollector stats = new OperationStatsCollector();
+        Path target = tempDir.resolve("target");
+        Files.walkFileTree(source, new Utils.RecursiveDirCopyVisitor(source, target, copier(stats)));
+        assertCopiedExceptLocked(stats, target);
+    }
+
+    @Test
+    public void testParallelCopySkipsUnreadableDirectory() throws IOException {
+        OperationStatsCollector stats = new OperationStatsCollector();
+        Path target = tempDir.resolve("target");
+        ParallelTreeCopy.copy(source, target, copier(stats), 4);
+        assertCopiedExceptLocked(stats, target);
+    }
+
+    @Test
+    public void testCopyFailsWithoutStats() {
+        Path target = tempDir.resolve("target");
+        Assertions.assertThrows(IOException.class, () ->
+                Files.walkFileTree(source, new Utils.RecursiveDirCopyVisitor(source, target, copier(null))));
+        Assertions.assertThrows(IOException.class, () ->
+                ParallelTreeCopy.copy(source, tempDir.resolve("parallel-target"), copier(null), 4));
+    }
+
+    private void assertCopiedExceptLocked(OperationStatsCollector stats, Path target) throws IOException {
+        Assertions.assertEquals("a", Files.readString(target.resolve("a.txt")));
+        Assertions.assertEquals("bb", Files.readString(target.resolve("nested").resolve("b.txt")));
+        Assertions.assertFalse(Files.exists(target.resolve("locked").resolve("c.txt")));
+        Assertions.assertEquals(2, stats.files());
+        List<OperationStatsCollector.Skipped> skipped = stats.skipped();
+        Assertions.assertEquals(1, skipped.size());
+        Assertions.assertEquals(locked, skipped.get(0).path());
+        Assertions.assertTrue(skipped.get(0).reason().startsWith("AccessDeniedException"));
+    }
+
+    private static FileCopier copier(OperationStatsCollector stats) {
+        return new FileCopier(new CopyOption[0], FileCopier.Method.DEFAULT, 8388608, null, stats, Durability.NONE);
+    }
+}
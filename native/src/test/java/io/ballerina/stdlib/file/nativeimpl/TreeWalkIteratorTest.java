@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.file.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * Tests walking a directory tree with a subdirectory that cannot be read.
+ */
+public class TreeWalkIteratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path locked;
+
+    @AfterEach
+    public void unlockTree() throws IOException {
+        if (locked != null) {
+            Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("rwx------"));
+        }
+    }
+
+    @Test
+    public void testWalkSkipsUnreadableSubdirectory() throws IOException {
+        Assumptions.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Files.writeString(tempDir.resolve("a.txt"), "a");
+        locked = Files.createDirectory(tempDir.resolve("locked"));
+        Files.writeString(locked.resolve("b.txt"), "b");
+        Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("-wx------"));
+        Assumptions.assumeFalse(Files.isReadable(locked), "Permissions are not enforced for this user");
+
+        // The entries are filtered out, so the walk ends without any entry unless it fails.
+        BMap<BString, Object> filter = ValueCreator.createMapValue();
+        filter.put(StringUtils.fromString("includeFiles"), false);
+        filter.put(StringUtils.fromString("includeDirs"), false);
+        TreeWalkIterator iterator = TreeWalkIterator.start(tempDir, Integer.MAX_VALUE, EntryFilter.from(filter));
+
+        Assertions.assertNull(iterator.next());
+    }
+}